@@ -0,0 +1,181 @@
+package org.eclipse.cargotracker.benchmarks;
+
+import org.eclipse.cargotracker.domain.model.location.Location;
+import org.eclipse.cargotracker.domain.model.location.LocationRepository;
+import org.eclipse.cargotracker.domain.model.location.UnLocode;
+import org.eclipse.cargotracker.domain.model.voyage.CarrierMovement;
+import org.eclipse.cargotracker.domain.model.voyage.SampleNetwork;
+import org.eclipse.cargotracker.domain.model.voyage.Voyage;
+import org.eclipse.cargotracker.domain.model.voyage.VoyageNumber;
+import org.eclipse.cargotracker.domain.model.voyage.VoyageRepository;
+import org.eclipse.pathfinder.api.PathFinder;
+import org.eclipse.pathfinder.internal.GraphDao;
+import org.eclipse.pathfinder.internal.SearchClock;
+import org.eclipse.pathfinder.internal.SearchPool;
+import org.eclipse.pathfinder.internal.Timetable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A synthetic network of a given size, with the path-finder and the repositories running over it
+ * in memory, and a fixed set of lanes to search. Everything is seeded, every run of a benchmark
+ * searches the same lanes over the same network.
+ */
+public class BenchmarkNetwork {
+
+    /**
+     * Every search departs at this time, when the first services leave.
+     */
+    public static final LocalDateTime DEPARTURE_TIME = LocalDateTime.of(2025, 1, 6, 0, 0);
+
+    public static final int WEEKS = 12;
+    public static final int LANES = 256;
+
+    private static final long SEED = SampleNetwork.DEFAULT_SEED;
+
+    public enum Size {
+        SMALL(100, 5),
+        MEDIUM(1_000, 20),
+        LARGE(5_000, 100);
+
+        private final int ports;
+        private final int hubs;
+
+        Size(int ports, int hubs) {
+            this.ports = ports;
+            this.hubs = hubs;
+        }
+    }
+
+    /**
+     * @param deadline arrival deadline, the end of the schedules
+     */
+    public record Lane(Location origin, Location destination, LocalDate deadline) {
+    }
+
+    private final SampleNetwork network;
+    private final Timetable timetable;
+    private final List<Lane> lanes;
+
+    public BenchmarkNetwork(Size size) {
+        this.network =
+                new SampleNetwork.Builder(DEPARTURE_TIME)
+                        .seed(SEED)
+                        .ports(size.ports)
+                        .hubs(size.hubs)
+                        .weeks(WEEKS)
+                        .build();
+        this.timetable = toTimetable(network);
+        this.lanes = pickLanes(network.getLocations());
+    }
+
+    public List<Lane> lanes() {
+        return lanes;
+    }
+
+    /**
+     * @return A path-finder over the network, in deterministic mode.
+     */
+    public PathFinder pathFinder(SearchPool searchPool) {
+        GraphDao dao =
+                new GraphDao() {
+                    @Override
+                    public Timetable getTimetable() {
+                        return timetable;
+                    }
+                };
+        SearchClock clock =
+                new SearchClock() {
+                    @Override
+                    public LocalDateTime now() {
+                        return DEPARTURE_TIME;
+                    }
+                };
+        // Reachability is not looked up by the searches.
+        return new PathFinder(dao, searchPool, null, clock);
+    }
+
+    public LocationRepository locationRepository() {
+        Map<UnLocode, Location> locations =
+                index(network.getLocations(), Location::getUnLocode);
+        return new LocationRepository() {
+            @Override
+            public Location find(UnLocode unLocode) {
+                return locations.get(unLocode);
+            }
+
+            @Override
+            public List<Location> findByUnLocodes(Collection<UnLocode> unLocodes) {
+                return unLocodes.stream().map(locations::get).filter(Objects::nonNull).toList();
+            }
+
+            @Override
+            public List<Location> findAll() {
+                return network.getLocations();
+            }
+        };
+    }
+
+    public VoyageRepository voyageRepository() {
+        Map<VoyageNumber, Voyage> voyages = index(network.getVoyages(), Voyage::getVoyageNumber);
+        return new VoyageRepository() {
+            @Override
+            public Voyage find(VoyageNumber voyageNumber) {
+                return voyages.get(voyageNumber);
+            }
+
+            @Override
+            public List<Voyage> findByVoyageNumbers(Collection<VoyageNumber> voyageNumbers) {
+                return voyageNumbers.stream().map(voyages::get).filter(Objects::nonNull).toList();
+            }
+
+            @Override
+            public List<Voyage> findAll() {
+                return network.getVoyages();
+            }
+        };
+    }
+
+    private static Timetable toTimetable(SampleNetwork network) {
+        Timetable.Builder builder = new Timetable.Builder();
+        for (Voyage voyage : network.getVoyages()) {
+            for (CarrierMovement movement : voyage.getSchedule().carrierMovements()) {
+                builder.addMovement(
+                        voyage.getVoyageNumber().number(),
+                        movement.getDepartureLocation().getUnLocode().unlocode(),
+                        movement.getArrivalLocation().getUnLocode().unlocode(),
+                        movement.getDepartureTime(),
+                        movement.getArrivalTime());
+            }
+        }
+        return builder.build();
+    }
+
+    private static List<Lane> pickLanes(List<Location> locations) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        LocalDate deadline = DEPARTURE_TIME.toLocalDate().plusWeeks(WEEKS);
+
+        List<Lane> lanes = new ArrayList<>(LANES);
+        while (lanes.size() < LANES) {
+            Location origin = locations.get(random.nextInt(locations.size()));
+            Location destination = locations.get(random.nextInt(locations.size()));
+            if (!origin.equals(destination)) {
+                lanes.add(new Lane(origin, destination, deadline));
+            }
+        }
+        return lanes;
+    }
+
+    private static <K, V> Map<K, V> index(List<V> values, Function<V, K> key) {
+        return values.stream().collect(Collectors.toMap(key, Function.identity()));
+    }
+}
@@ -0,0 +1,73 @@
+package org.eclipse.cargotracker.benchmarks;
+
+import org.eclipse.cargotracker.benchmarks.BenchmarkNetwork.Lane;
+import org.eclipse.pathfinder.api.PathFinder;
+import org.eclipse.pathfinder.api.SearchBudget;
+import org.eclipse.pathfinder.api.SearchMode;
+import org.eclipse.pathfinder.api.SearchResult;
+import org.eclipse.pathfinder.internal.SearchPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One shortest path search, over the lanes of the network in turn. This is the search behind
+ * {@link org.eclipse.pathfinder.api.GraphTraversalService}, without the HTTP and JSON around it.
+ * The budget is unlimited, so that every search runs to the end.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathFinderBenchmark {
+
+    @Param
+    private BenchmarkNetwork.Size size;
+
+    @Param
+    private SearchMode mode;
+
+    private SearchPool searchPool;
+    private PathFinder pathFinder;
+    private List<Lane> lanes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        BenchmarkNetwork network = new BenchmarkNetwork(size);
+        searchPool = new SearchPool();
+        searchPool.init();
+        pathFinder = network.pathFinder(searchPool);
+        lanes = network.lanes();
+    }
+
+    @TearDown
+    public void tearDown() {
+        searchPool.destroy();
+    }
+
+    @Benchmark
+    public SearchResult findShortestPath() {
+        Lane lane = lanes.get(next++ % lanes.size());
+        return pathFinder.findShortestPath(
+                lane.origin().getUnLocode().unlocode(),
+                lane.destination().getUnLocode().unlocode(),
+                lane.deadline().toString(),
+                mode,
+                SearchBudget.UNLIMITED);
+    }
+}
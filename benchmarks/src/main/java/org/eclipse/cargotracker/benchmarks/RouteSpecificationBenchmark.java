@@ -0,0 +1,104 @@
+package org.eclipse.cargotracker.benchmarks;
+
+import org.eclipse.cargotracker.benchmarks.BenchmarkNetwork.Lane;
+import org.eclipse.cargotracker.domain.model.cargo.Itinerary;
+import org.eclipse.cargotracker.domain.model.cargo.Leg;
+import org.eclipse.cargotracker.domain.model.cargo.RouteSpecification;
+import org.eclipse.cargotracker.domain.model.location.LocationRepository;
+import org.eclipse.cargotracker.domain.model.location.UnLocode;
+import org.eclipse.cargotracker.domain.model.voyage.VoyageNumber;
+import org.eclipse.cargotracker.domain.model.voyage.VoyageRepository;
+import org.eclipse.pathfinder.api.PathFinder;
+import org.eclipse.pathfinder.api.SearchMode;
+import org.eclipse.pathfinder.api.TransitEdge;
+import org.eclipse.pathfinder.api.TransitPath;
+import org.eclipse.pathfinder.internal.SearchPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks of the itineraries found against their route specification, over the lanes of the network
+ * in turn. The itineraries are built once up front from the paths found.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteSpecificationBenchmark {
+
+    @Param
+    private BenchmarkNetwork.Size size;
+
+    private List<RouteSpecification> routeSpecifications;
+    private List<Itinerary> itineraries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        BenchmarkNetwork network = new BenchmarkNetwork(size);
+        LocationRepository locationRepository = network.locationRepository();
+        VoyageRepository voyageRepository = network.voyageRepository();
+
+        routeSpecifications = new ArrayList<>();
+        itineraries = new ArrayList<>();
+        SearchPool searchPool = new SearchPool();
+        searchPool.init();
+        try {
+            PathFinder pathFinder = network.pathFinder(searchPool);
+            for (Lane lane : network.lanes()) {
+                RouteSpecification routeSpecification =
+                        RouteSpecification.of(lane.origin(), lane.destination(), lane.deadline());
+                List<TransitPath> paths =
+                        pathFinder.findShortestPath(
+                                lane.origin().getUnLocode().unlocode(),
+                                lane.destination().getUnLocode().unlocode(),
+                                lane.deadline().toString(),
+                                SearchMode.PARETO);
+                for (TransitPath path : paths) {
+                    routeSpecifications.add(routeSpecification);
+                    itineraries.add(toItinerary(path, locationRepository, voyageRepository));
+                }
+            }
+        } finally {
+            searchPool.destroy();
+        }
+    }
+
+    @Benchmark
+    public boolean isSatisfiedBy() {
+        int i = next++ % itineraries.size();
+        return routeSpecifications.get(i).isSatisfiedBy(itineraries.get(i));
+    }
+
+    private static Itinerary toItinerary(
+            TransitPath path,
+            LocationRepository locationRepository,
+            VoyageRepository voyageRepository) {
+        List<Leg> legs = new ArrayList<>(path.transitEdges().size());
+        for (TransitEdge edge : path.transitEdges()) {
+            legs.add(
+                    new Leg(
+                            voyageRepository.find(new VoyageNumber(edge.voyageNumber())),
+                            locationRepository.find(new UnLocode(edge.fromUnLocode())),
+                            locationRepository.find(new UnLocode(edge.toUnLocode())),
+                            edge.fromDate(),
+                            edge.toDate()));
+        }
+        return Itinerary.of(legs);
+    }
+}
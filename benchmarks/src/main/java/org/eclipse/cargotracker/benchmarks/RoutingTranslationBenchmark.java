@@ -0,0 +1,132 @@
+package org.eclipse.cargotracker.benchmarks;
+
+import org.eclipse.cargotracker.benchmarks.BenchmarkNetwork.Lane;
+import org.eclipse.cargotracker.domain.model.cargo.Itinerary;
+import org.eclipse.cargotracker.domain.model.cargo.RouteSpecification;
+import org.eclipse.cargotracker.infrastructure.routing.ExternalRoutingService;
+import org.eclipse.cargotracker.infrastructure.routing.RouteCache;
+import org.eclipse.cargotracker.infrastructure.routing.client.GraphTraversalClient;
+import org.eclipse.pathfinder.api.PathFinder;
+import org.eclipse.pathfinder.api.RouteQuery;
+import org.eclipse.pathfinder.api.SearchMode;
+import org.eclipse.pathfinder.api.TransitPath;
+import org.eclipse.pathfinder.internal.SearchPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Translation of the paths found back into itineraries, over the lanes of the network in turn.
+ * The paths are searched once up front and served by a stub of the path-finder client, and the
+ * route cache keeps nothing, so that every call translates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutingTranslationBenchmark {
+
+    @Param
+    private BenchmarkNetwork.Size size;
+
+    private ExternalRoutingService routingService;
+    private List<RouteSpecification> routeSpecifications;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        BenchmarkNetwork network = new BenchmarkNetwork(size);
+
+        Map<String, List<TransitPath>> paths = new HashMap<>();
+        SearchPool searchPool = new SearchPool();
+        searchPool.init();
+        try {
+            PathFinder pathFinder = network.pathFinder(searchPool);
+            for (Lane lane : network.lanes()) {
+                String origin = lane.origin().getUnLocode().unlocode();
+                String destination = lane.destination().getUnLocode().unlocode();
+                paths.put(
+                        origin + destination,
+                        pathFinder.findShortestPath(
+                                origin,
+                                destination,
+                                lane.deadline().toString(),
+                                SearchMode.PARETO));
+            }
+        } finally {
+            searchPool.destroy();
+        }
+
+        routingService =
+                new ExternalRoutingService(
+                        network.locationRepository(),
+                        network.voyageRepository(),
+                        new PrecomputedGraphTraversalClient(paths),
+                        new RouteCache(0, Duration.ZERO, Clock.systemUTC()),
+                        null);
+        routeSpecifications =
+                network.lanes().stream()
+                        .map(
+                                lane ->
+                                        RouteSpecification.of(
+                                                lane.origin(),
+                                                lane.destination(),
+                                                lane.deadline()))
+                        .toList();
+    }
+
+    @Benchmark
+    public List<Itinerary> fetchRoutesForSpecification() {
+        return routingService.fetchRoutesForSpecification(
+                routeSpecifications.get(next++ % routeSpecifications.size()));
+    }
+
+    private record PrecomputedGraphTraversalClient(Map<String, List<TransitPath>> paths)
+            implements GraphTraversalClient {
+
+        @Override
+        public List<TransitPath> findShortestPath(
+                String origin, String destination, String deadline) {
+            return paths.getOrDefault(origin + destination, List.of());
+        }
+
+        @Override
+        public CompletionStage<List<TransitPath>> findShortestPathAsync(
+                String origin, String destination, String deadline) {
+            return CompletableFuture.completedFuture(
+                    findShortestPath(origin, destination, deadline));
+        }
+
+        @Override
+        public List<List<TransitPath>> findShortestPaths(List<RouteQuery> queries) {
+            return queries.stream()
+                    .map(query -> findShortestPath(query.origin(), query.destination(), null))
+                    .toList();
+        }
+
+        @Override
+        public Map<String, LocalDateTime> findEarliestArrivals(String origin) {
+            return null;
+        }
+    }
+}
@@ -9,6 +9,8 @@ import org.eclipse.cargotracker.domain.model.location.UnLocode;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 /**
  * Cargo booking service.
@@ -44,6 +46,34 @@ public interface BookingService {
             TrackingId trackingId
     );
 
+    /**
+     * Requests the possible routes for this cargo without waiting for the routing service.
+     *
+     * @param trackingId Cargo tracking ID
+     * @return The possible itineraries for this cargo, completed once the routes are found
+     */
+    CompletionStage<List<Itinerary>> requestPossibleRoutesForCargoAsync(
+            @NotNull(message = "Tracking ID is required")
+            @Valid
+            TrackingId trackingId
+    );
+
+    /**
+     * Requests the possible routes for this cargo without waiting for the routing service, and
+     * hands every route over as soon as it is found.
+     *
+     * @param trackingId Cargo tracking ID
+     * @param consumer   called with every possible itinerary for this cargo, possibly from another
+     *                   thread
+     * @return Completed once all the routes are found
+     */
+    CompletionStage<Void> requestPossibleRoutesForCargoAsync(
+            @NotNull(message = "Tracking ID is required")
+            @Valid
+            TrackingId trackingId,
+            Consumer<Itinerary> consumer
+    );
+
     void assignCargoToRoute(
             @NotNull(message = "Itinerary is required")
             @Valid
@@ -17,6 +17,9 @@ import org.eclipse.cargotracker.domain.service.RoutingService;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -60,6 +63,9 @@ public class DefaultBookingService implements BookingService {
                 "Booked new cargo with tracking ID {0}",
                 cargo.getTrackingId().id());
 
+        // The routes are almost always requested next, they are searched in the meantime.
+        routingService.prefetchRoutesForSpecification(routeSpecification);
+
         return cargo.getTrackingId();
     }
 
@@ -74,6 +80,31 @@ public class DefaultBookingService implements BookingService {
         return routingService.fetchRoutesForSpecification(cargo.getRouteSpecification());
     }
 
+    @Override
+    public CompletionStage<List<Itinerary>> requestPossibleRoutesForCargoAsync(
+            TrackingId trackingId) {
+        Cargo cargo = cargoRepository.find(trackingId);
+
+        if (cargo == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        return routingService.fetchRoutesForSpecificationAsync(cargo.getRouteSpecification());
+    }
+
+    @Override
+    public CompletionStage<Void> requestPossibleRoutesForCargoAsync(
+            TrackingId trackingId, Consumer<Itinerary> consumer) {
+        Cargo cargo = cargoRepository.find(trackingId);
+
+        if (cargo == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return routingService.fetchRoutesForSpecificationAsync(
+                cargo.getRouteSpecification(), consumer);
+    }
+
     @Override
     public void assignCargoToRoute(Itinerary itinerary, TrackingId trackingId) {
         Cargo cargo = cargoRepository.find(trackingId);
@@ -9,8 +9,8 @@ import org.eclipse.cargotracker.application.CargoInspectionService;
 import org.eclipse.cargotracker.domain.model.cargo.Cargo;
 import org.eclipse.cargotracker.domain.model.cargo.CargoRepository;
 import org.eclipse.cargotracker.domain.model.cargo.TrackingId;
+import org.eclipse.cargotracker.domain.model.handling.HandlingEvent;
 import org.eclipse.cargotracker.domain.model.handling.HandlingEventRepository;
-import org.eclipse.cargotracker.domain.model.handling.HandlingHistory;
 import org.eclipse.cargotracker.infrastructure.events.cdi.CargoInspected;
 
 import java.util.logging.Level;
@@ -53,9 +53,10 @@ public class DefaultCargoInspectionService implements CargoInspectionService {
             return;
         }
 
-        HandlingHistory handlingHistory = handlingEventRepository.lookupHandlingHistoryOfCargo(trackingId);
+        // Only the most recent event counts, however long the handling history is.
+        HandlingEvent lastEvent = handlingEventRepository.findMostRecentlyCompleted(trackingId);
 
-        cargo.deriveDeliveryProgress(handlingHistory);
+        cargo.deriveDeliveryProgress(lastEvent);
 
         if (cargo.getDelivery().misdirected()) {
             applicationEvents.cargoWasMisdirected(cargo);
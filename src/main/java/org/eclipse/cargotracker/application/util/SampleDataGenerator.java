@@ -1,6 +1,8 @@
 package org.eclipse.cargotracker.application.util;
 
+import jakarta.annotation.Resource;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.event.Startup;
 import jakarta.inject.Inject;
@@ -16,16 +18,26 @@ import org.eclipse.cargotracker.domain.model.handling.HandlingEvent;
 import org.eclipse.cargotracker.domain.model.handling.HandlingEventFactory;
 import org.eclipse.cargotracker.domain.model.handling.HandlingEventRepository;
 import org.eclipse.cargotracker.domain.model.handling.HandlingHistory;
+import org.eclipse.cargotracker.domain.model.location.Location;
 import org.eclipse.cargotracker.domain.model.location.SampleLocations;
+import org.eclipse.cargotracker.domain.model.voyage.SampleNetwork;
 import org.eclipse.cargotracker.domain.model.voyage.SampleVoyages;
+import org.eclipse.cargotracker.domain.model.voyage.Voyage;
+import org.eclipse.cargotracker.infrastructure.events.cdi.ScheduleChanged;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Loads sample data for demo.
+ *
+ * <p>A synthetic {@link SampleNetwork} of the configured number of ports may be loaded along with
+ * it, to try routing at production scale. It is scheduled from the fixed departure time of the
+ * path-finder if one is configured, so that the searches are reproducible, or from today.
  */
 @ApplicationScoped
 @Transactional
@@ -33,9 +45,23 @@ public class SampleDataGenerator {
 
     private static final Logger LOGGER = Logger.getLogger(SampleDataGenerator.class.getName());
 
+    // Departure time of the path-finder searches that stands for the current time.
+    private static final String CURRENT_TIME = "now";
+
     private EntityManager entityManager;
     private HandlingEventFactory handlingEventFactory;
     private HandlingEventRepository handlingEventRepository;
+    private Event<Voyage> scheduleChanged;
+
+    // No synthetic network if zero.
+    @Resource(lookup = "java:app/configuration/SampleNetworkPorts")
+    private int sampleNetworkPorts;
+
+    @Resource(lookup = "java:app/configuration/SampleNetworkSeed")
+    private long sampleNetworkSeed = SampleNetwork.DEFAULT_SEED;
+
+    @Resource(lookup = "java:app/configuration/GraphTraversalDepartureTime")
+    private String departureTime;
 
     // No-arg constructor required by CDI
     public SampleDataGenerator() {
@@ -45,10 +71,12 @@ public class SampleDataGenerator {
     public SampleDataGenerator(
             EntityManager entityManager,
             HandlingEventFactory handlingEventFactory,
-            HandlingEventRepository handlingEventRepository) {
+            HandlingEventRepository handlingEventRepository,
+            @ScheduleChanged Event<Voyage> scheduleChanged) {
         this.entityManager = entityManager;
         this.handlingEventFactory = handlingEventFactory;
         this.handlingEventRepository = handlingEventRepository;
+        this.scheduleChanged = scheduleChanged;
     }
 
     public void loadSampleData(@Observes Startup startup) {
@@ -57,6 +85,7 @@ public class SampleDataGenerator {
         // drop.
         loadSampleLocations();
         loadSampleVoyages();
+        loadSampleNetwork();
         loadSampleCargos();
 
         // print all cargos
@@ -104,11 +133,48 @@ public class SampleDataGenerator {
     private void loadSampleVoyages() {
         LOGGER.info("Loading sample voyages.");
 
-        entityManager.persist(SampleVoyages.HONGKONG_TO_NEW_YORK);
-        entityManager.persist(SampleVoyages.NEW_YORK_TO_DALLAS);
-        entityManager.persist(SampleVoyages.DALLAS_TO_HELSINKI);
-        entityManager.persist(SampleVoyages.HELSINKI_TO_HONGKONG);
-        entityManager.persist(SampleVoyages.DALLAS_TO_HELSINKI_ALT);
+        List<Voyage> voyages =
+                List.of(
+                        SampleVoyages.HONGKONG_TO_NEW_YORK,
+                        SampleVoyages.NEW_YORK_TO_DALLAS,
+                        SampleVoyages.DALLAS_TO_HELSINKI,
+                        SampleVoyages.HELSINKI_TO_HONGKONG,
+                        SampleVoyages.DALLAS_TO_HELSINKI_ALT);
+        for (Voyage voyage : voyages) {
+            entityManager.persist(voyage);
+            scheduleChanged.fire(voyage);
+        }
+    }
+
+    private void loadSampleNetwork() {
+        if (sampleNetworkPorts <= 0) {
+            return;
+        }
+
+        LocalDateTime firstDeparture =
+                departureTime == null
+                                || departureTime.isBlank()
+                                || CURRENT_TIME.equalsIgnoreCase(departureTime.strip())
+                        ? LocalDate.now().atStartOfDay()
+                        : LocalDateTime.parse(departureTime.strip());
+        SampleNetwork network =
+                new SampleNetwork.Builder(firstDeparture)
+                        .seed(sampleNetworkSeed)
+                        .ports(sampleNetworkPorts)
+                        .hubs(Math.max(1, sampleNetworkPorts / 50))
+                        .build();
+        LOGGER.log(
+                Level.INFO,
+                "Loading a sample network of {0} ports and {1} voyages.",
+                new Object[]{network.getLocations().size(), network.getVoyages().size()});
+
+        for (Location location : network.getLocations()) {
+            entityManager.persist(location);
+        }
+        for (Voyage voyage : network.getVoyages()) {
+            entityManager.persist(voyage);
+            scheduleChanged.fire(voyage);
+        }
     }
 
     private void loadSampleCargos() {
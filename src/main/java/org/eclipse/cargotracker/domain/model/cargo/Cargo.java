@@ -1,20 +1,30 @@
 package org.eclipse.cargotracker.domain.model.cargo;
 
+import jakarta.annotation.Nullable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.NamedQuery;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotNull;
 import org.eclipse.cargotracker.domain.model.handling.HandlingEvent;
 import org.eclipse.cargotracker.domain.model.handling.HandlingHistory;
 import org.eclipse.cargotracker.domain.model.location.Location;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -54,7 +64,72 @@ import java.util.Objects;
  */
 @Entity
 @Table(name = "cargos")
+// Fetch plan of a cargo loaded to be tracked or routed: its itinerary and everything the legs and
+// the delivery refer to are read along with it, instead of one by one as they are walked.
+@NamedEntityGraph(
+        name = "cargo-with-itinerary",
+        attributeNodes = {
+                @NamedAttributeNode("origin"),
+                @NamedAttributeNode(value = "routeSpecification", subgraph = "routeSpecification"),
+                @NamedAttributeNode(value = "itinerary", subgraph = "itinerary"),
+                @NamedAttributeNode(value = "delivery", subgraph = "delivery")
+        },
+        subgraphs = {
+                @NamedSubgraph(
+                        name = "routeSpecification",
+                        attributeNodes = {
+                                @NamedAttributeNode("origin"),
+                                @NamedAttributeNode("destination")
+                        }),
+                @NamedSubgraph(
+                        name = "itinerary",
+                        attributeNodes = @NamedAttributeNode(value = "legs", subgraph = "leg")),
+                @NamedSubgraph(
+                        name = "leg",
+                        attributeNodes = {
+                                @NamedAttributeNode("voyage"),
+                                @NamedAttributeNode("loadLocation"),
+                                @NamedAttributeNode("unloadLocation")
+                        }),
+                @NamedSubgraph(
+                        name = "delivery",
+                        attributeNodes = {
+                                @NamedAttributeNode("lastKnownLocation"),
+                                @NamedAttributeNode("currentVoyage"),
+                                @NamedAttributeNode(
+                                        value = "nextExpectedActivity",
+                                        subgraph = "nextExpectedActivity"),
+                                @NamedAttributeNode(value = "lastEvent", subgraph = "lastEvent")
+                        }),
+                @NamedSubgraph(
+                        name = "nextExpectedActivity",
+                        attributeNodes = {
+                                @NamedAttributeNode("location"),
+                                @NamedAttributeNode("voyage")
+                        }),
+                @NamedSubgraph(
+                        name = "lastEvent",
+                        attributeNodes = {
+                                @NamedAttributeNode("location"),
+                                @NamedAttributeNode("voyage")
+                        })
+        })
 @NamedQuery(name = "Cargo.findAll", query = "Select c from Cargo c")
+@NamedQuery(
+        name = "Cargo.findAllOrdered",
+        query = "Select c from Cargo c order by c.trackingId.id")
+@NamedQuery(
+        name = "Cargo.findAllAfter",
+        query = "Select c from Cargo c where c.trackingId.id > :after order by c.trackingId.id")
+@NamedQuery(
+        name = "Cargo.findAllSummaries",
+        query = Cargo.SELECT_SUMMARY + " order by c.trackingId.id")
+@NamedQuery(
+        name = "Cargo.findSummariesAfter",
+        query = Cargo.SELECT_SUMMARY + " where c.trackingId.id > :after order by c.trackingId.id")
+@NamedQuery(
+        name = "Cargo.findAllTrackingIds",
+        query = "Select c.trackingId.id from Cargo c order by c.trackingId.id")
 @NamedQuery(
         name = "Cargo.findByTrackingId",
         query = "Select c from Cargo c where c.trackingId = :trackingId")
@@ -62,8 +137,19 @@ public class Cargo implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    // Only the columns of the summary are selected, no entity is read.
+    static final String SELECT_SUMMARY =
+            "Select new org.eclipse.cargotracker.domain.model.cargo.CargoSummary("
+                    + "c.trackingId.id, o.unLocode.unlocode, o.name, d.unLocode.unlocode, d.name, "
+                    + "c.routeSpecification.arrivalDeadline, c.delivery.routingStatus, "
+                    + "c.delivery.transportStatus, c.delivery.misdirected, "
+                    + "c.delivery.unloadedAtDestination, l.unLocode.unlocode, l.name) "
+                    + "from Cargo c join c.origin o join c.routeSpecification.destination d "
+                    + "left join c.delivery.lastKnownLocation l";
+
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cargos_seq")
+    @SequenceGenerator(name = "cargos_seq", sequenceName = "cargos_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -88,6 +174,14 @@ public class Cargo implements Serializable {
     @NotNull
     private Delivery delivery;
 
+    // Dirty tracking of the itinerary, until the cargo is stored. The legs of a replaced itinerary
+    // are left without a cargo and have to be removed.
+    @Transient
+    private transient boolean itineraryChanged;
+
+    @Transient
+    private transient List<Leg> replacedLegs;
+
     public Cargo() {
         // Nothing to initialize.
     }
@@ -152,12 +246,51 @@ public class Cargo implements Serializable {
     public void assignToRoute(Itinerary itinerary) {
         Objects.requireNonNull(itinerary, "Itinerary is required for assignment");
 
+        Itinerary replaced = getItinerary();
+        if (replaced != itinerary) {
+            List<Leg> kept = itinerary.legs();
+            for (Leg leg : replaced.legs()) {
+                // Legs are compared by value, a new leg may well equal a replaced one.
+                if (!leg.isNew() && kept.stream().noneMatch(keptLeg -> keptLeg == leg)) {
+                    if (replacedLegs == null) {
+                        replacedLegs = new ArrayList<>();
+                    }
+                    replacedLegs.add(leg);
+                }
+            }
+            itineraryChanged = true;
+        }
+
         this.itinerary = itinerary;
 
         // Handling consistency within the Cargo aggregate synchronously
         this.delivery = DeliveryFactory.updateOnRouting(this.delivery, this.routeSpecification, this.itinerary);
     }
 
+    /**
+     * @return True if the cargo has been assigned to another route since it was loaded or last
+     * stored.
+     */
+    public boolean isItineraryChanged() {
+        return itineraryChanged;
+    }
+
+    /**
+     * @return The persisted legs of the itineraries replaced since the cargo was loaded or last
+     * stored. Never null.
+     */
+    public List<Leg> getReplacedLegs() {
+        return replacedLegs == null ? Collections.emptyList() : List.copyOf(replacedLegs);
+    }
+
+    /**
+     * Resets the dirty tracking of the itinerary, once the cargo has been stored.
+     */
+    public void itineraryStored() {
+        itineraryChanged = false;
+        replacedLegs = null;
+    }
+
     /**
      * Updates all aspects of the cargo aggregate status based on the current route specification,
      * itinerary and handling of the cargo.
@@ -177,6 +310,18 @@ public class Cargo implements Serializable {
         // LOGGER.log(Level.INFO, "deriveDeliveryProgress: {0}", this.delivery);
     }
 
+    /**
+     * Updates all aspects of the cargo aggregate status, like {@link
+     * #deriveDeliveryProgress(HandlingHistory)}, from the most recently completed handling event
+     * only. That event is all the status depends on.
+     *
+     * @param lastEvent most recently completed handling event, or null if the cargo has not been
+     *                  handled yet
+     */
+    public void deriveDeliveryProgress(@Nullable HandlingEvent lastEvent) {
+        this.delivery = DeliveryFactory.create(getRouteSpecification(), getItinerary(), lastEvent);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof Cargo cargo)) return false;
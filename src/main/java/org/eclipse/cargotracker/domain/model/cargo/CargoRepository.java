@@ -3,6 +3,7 @@ package org.eclipse.cargotracker.domain.model.cargo;
 import jakarta.annotation.Nullable;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface CargoRepository {
 
@@ -11,6 +12,25 @@ public interface CargoRepository {
 
     List<Cargo> findAll();
 
+    /**
+     * Finds a page of cargos, by keyset: the page starts right after the given tracking ID, the
+     * last one of the previous page, and not at an offset that has to be skipped over.
+     *
+     * @param after last tracking ID of the previous page, or null for the first page
+     * @param limit maximum number of cargos in the page
+     * @return The cargos, ordered by tracking ID.
+     */
+    List<Cargo> findAll(@Nullable TrackingId after, int limit);
+
+    /**
+     * Streams all cargos, ordered by tracking ID, reading them from the database as the stream is
+     * consumed. The stream has to be consumed, and closed, within the current transaction.
+     *
+     * <p>A cargo is detached once the next one is read, so that the persistence context does not
+     * grow with the number of cargos. Anything lazily loaded must be read before.
+     */
+    Stream<Cargo> streamAll();
+
     void store(Cargo cargo);
 
     TrackingId nextTrackingId();
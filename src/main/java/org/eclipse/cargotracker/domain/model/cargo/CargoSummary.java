@@ -0,0 +1,40 @@
+package org.eclipse.cargotracker.domain.model.cargo;
+
+import jakarta.annotation.Nullable;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only summary of a cargo, for listing cargos. It holds the few columns the lists show and is
+ * read directly from the cargo table, none of the cargo aggregate, its delivery or its legs, is
+ * loaded for it.
+ *
+ * <p>A cargo is routed as soon as it has an itinerary, whether the itinerary satisfies its route
+ * specification or not. The last known location is null until the cargo is handled.
+ */
+public record CargoSummary(
+        String trackingId,
+        String originUnLocode,
+        String originName,
+        String destinationUnLocode,
+        String destinationName,
+        LocalDate arrivalDeadline,
+        RoutingStatus routingStatus,
+        TransportStatus transportStatus,
+        boolean misdirected,
+        boolean unloadedAtDestination,
+        @Nullable String lastKnownLocationUnLocode,
+        @Nullable String lastKnownLocationName) {
+
+    public boolean isRouted() {
+        return routingStatus != RoutingStatus.NOT_ROUTED;
+    }
+
+    public boolean isMisrouted() {
+        return routingStatus == RoutingStatus.MISROUTED;
+    }
+
+    public boolean isClaimed() {
+        return transportStatus == TransportStatus.CLAIMED;
+    }
+}
@@ -0,0 +1,25 @@
+package org.eclipse.cargotracker.domain.model.cargo;
+
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * Read-only queries for listing cargos, reading only what the lists show instead of whole cargo
+ * aggregates.
+ */
+public interface CargoSummaryRepository {
+
+    /**
+     * @param after last tracking ID of the previous page, or null for the first page
+     * @param limit maximum number of summaries in the page
+     * @return The summaries of the cargos, ordered by tracking ID.
+     * @see CargoRepository#findAll(TrackingId, int)
+     */
+    List<CargoSummary> findAll(@Nullable TrackingId after, int limit);
+
+    /**
+     * @return The tracking IDs of all cargos, ordered.
+     */
+    List<TrackingId> findAllTrackingIds();
+}
@@ -3,9 +3,12 @@ package org.eclipse.cargotracker.domain.model.cargo;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import org.eclipse.cargotracker.domain.model.location.Location;
@@ -18,13 +21,15 @@ import java.util.Objects;
 import java.util.logging.Logger;
 
 @Entity
-@Table(name = "legs")
+// The legs of the itinerary of a cargo are read by it.
+@Table(name = "legs", indexes = @Index(name = "legs_cargo", columnList = "cargo_id"))
 public class Leg implements Serializable {
     private static final Logger LOGGER = Logger.getLogger(Leg.class.getName());
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "legs_seq")
+    @SequenceGenerator(name = "legs_seq", sequenceName = "legs_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
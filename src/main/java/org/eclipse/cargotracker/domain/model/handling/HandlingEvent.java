@@ -5,10 +5,15 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.NamedQuery;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotNull;
@@ -37,16 +42,30 @@ import java.util.Objects;
  * <p>All other events must be of {@link Type#RECEIVE}, {@link Type#CLAIM} or {@link Type#CUSTOMS}.
  */
 @Entity
-@Table(name = "handling_events")
+// The most recently completed event of a cargo is read from the end of the index.
+@Table(
+        name = "handling_events",
+        indexes =
+        @Index(name = "handling_events_cargo_completion", columnList = "cargo_id, completion_time"))
+// Fetch plan of the handling history of a cargo: the locations and voyages of the events are read
+// along with them.
+@NamedEntityGraph(
+        name = "history-with-refs",
+        attributeNodes = {@NamedAttributeNode("location"), @NamedAttributeNode("voyage")})
 @NamedQuery(
         name = "HandlingEvent.findByTrackingId",
         query = "Select e from HandlingEvent e where e.cargo.trackingId = :trackingId")
+@NamedQuery(
+        name = "HandlingEvent.findMostRecentlyCompleted",
+        query = "Select e from HandlingEvent e where e.cargo.trackingId = :trackingId "
+                + "order by e.completionTime desc, e.registrationTime desc, e.id desc")
 public class HandlingEvent implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "handling_events_seq")
+    @SequenceGenerator(name = "handling_events_seq", sequenceName = "handling_events_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
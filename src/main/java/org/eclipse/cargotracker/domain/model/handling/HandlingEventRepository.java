@@ -1,5 +1,6 @@
 package org.eclipse.cargotracker.domain.model.handling;
 
+import jakarta.annotation.Nullable;
 import org.eclipse.cargotracker.domain.model.cargo.TrackingId;
 
 public interface HandlingEventRepository {
@@ -7,4 +8,13 @@ public interface HandlingEventRepository {
     void store(HandlingEvent event);
 
     HandlingHistory lookupHandlingHistoryOfCargo(TrackingId trackingId);
+
+    /**
+     * @return The most recently completed handling event of the cargo, the same as that of its
+     * handling history, without reading the rest of the history. Null if the cargo has not been
+     * handled yet.
+     * @see HandlingHistory#getMostRecentlyCompletedEvent()
+     */
+    @Nullable
+    HandlingEvent findMostRecentlyCompleted(TrackingId trackingId);
 }
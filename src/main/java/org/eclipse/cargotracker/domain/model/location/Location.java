@@ -1,11 +1,16 @@
 package org.eclipse.cargotracker.domain.model.location;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.NamedQuery;
+import jakarta.persistence.QueryHint;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -18,14 +23,31 @@ import java.util.Objects;
  * movement end points.
  *
  * <p>It is uniquely identified by a UN location code.
+ *
+ * <p>Locations are reference data, kept in the shared cache along with the results of the query
+ * of all of them.
  */
 @Entity
-@Table(name = "locations")
-@NamedQuery(name = "Location.findAll", query = "Select l from Location l")
+@Table(
+        name = "locations",
+        indexes = @Index(name = "locations_un_locode", columnList = "un_locode", unique = true))
+@Cacheable
+@NamedQuery(
+        name = "Location.findAll",
+        query = "Select l from Location l",
+        hints = {
+                @QueryHint(name = "eclipselink.query-results-cache", value = "true"),
+                @QueryHint(name = "org.hibernate.cacheable", value = "true")
+        }
+)
 @NamedQuery(
         name = "Location.findByUnLocode",
         query = "Select l from Location l where l.unLocode = :unLocode"
 )
+@NamedQuery(
+        name = "Location.findByUnLocodes",
+        query = "Select l from Location l where l.unLocode.unlocode in :unLocodes"
+)
 public class Location implements Serializable {
 
     // Special Location object that marks an unknown location.
@@ -33,7 +55,8 @@ public class Location implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "locations_seq")
+    @SequenceGenerator(name = "locations_seq", sequenceName = "locations_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
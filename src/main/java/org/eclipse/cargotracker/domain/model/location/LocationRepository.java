@@ -2,6 +2,7 @@ package org.eclipse.cargotracker.domain.model.location;
 
 import jakarta.annotation.Nullable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface LocationRepository {
@@ -9,5 +10,10 @@ public interface LocationRepository {
    @Nullable
    Location find(UnLocode unLocode);
 
+    /**
+     * @return The locations found, in no particular order. Unknown codes are left out.
+     */
+    List<Location> findByUnLocodes(Collection<UnLocode> unLocodes);
+
     List<Location> findAll();
 }
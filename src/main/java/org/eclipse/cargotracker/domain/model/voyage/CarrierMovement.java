@@ -1,11 +1,15 @@
 package org.eclipse.cargotracker.domain.model.voyage;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import org.eclipse.cargotracker.domain.model.location.Location;
@@ -19,7 +23,11 @@ import java.util.Objects;
  * A carrier movement is a vessel voyage from one location to another.
  */
 @Entity
-@Table(name = "carrier_movements")
+// The schedule of a voyage is read by it.
+@Table(
+        name = "carrier_movements",
+        indexes = @Index(name = "carrier_movements_voyage", columnList = "voyage_id"))
+@Cacheable
 public class CarrierMovement implements Serializable {
 
     // Null object pattern
@@ -27,7 +35,8 @@ public class CarrierMovement implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "carrier_movements_seq")
+    @SequenceGenerator(name = "carrier_movements_seq", sequenceName = "carrier_movements_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
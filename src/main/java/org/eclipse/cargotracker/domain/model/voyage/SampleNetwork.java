@@ -0,0 +1,280 @@
+package org.eclipse.cargotracker.domain.model.voyage;
+
+import org.eclipse.cargotracker.domain.model.location.Location;
+import org.eclipse.cargotracker.domain.model.location.UnLocode;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded generator of sample networks of any size, for benchmarks and tests at production scale.
+ * The same seed and sizes always give the same locations and voyages.
+ *
+ * <p>The ports are scattered on a plane, the first ones being the hubs. Trunk services loop
+ * between hubs, all of them calling at a few gateway hubs where cargo is transshipped from one
+ * trunk to another. Feeder services loop from a hub to the ports closest to it and back. Every
+ * service leaves once a week, each rotation being a voyage of its own, and sails at a constant
+ * speed between ports.
+ *
+ * <p>The UN location codes all belong to the X* countries, reserved for user assignment, and can
+ * not clash with the {@link org.eclipse.cargotracker.domain.model.location.SampleLocations}.
+ */
+public class SampleNetwork {
+
+    public static final long DEFAULT_SEED = 1L;
+    // X followed by four letters.
+    public static final int MAX_PORTS = 26 * 26 * 26 * 26;
+
+    // Side of the plane the ports are scattered on, in kilometres.
+    private static final double PLANE_SIZE = 10_000;
+    // Kilometres per hour, about 16 knots.
+    private static final double SPEED = 30;
+    private static final long MIN_SAILING_MINUTES = 6 * 60;
+    private static final long PORT_STAY_MINUTES = 12 * 60;
+    private static final int GATEWAYS = 3;
+    private static final int MIN_TRUNK_HUBS = 2;
+    private static final int MAX_TRUNK_HUBS = 5;
+    private static final int MIN_FEEDER_PORTS = 2;
+    private static final int MAX_FEEDER_PORTS = 5;
+
+    private final List<Location> locations;
+    private final List<Voyage> voyages;
+
+    private SampleNetwork(List<Location> locations, List<Voyage> voyages) {
+        this.locations = List.copyOf(locations);
+        this.voyages = List.copyOf(voyages);
+    }
+
+    /**
+     * @return The ports, hubs first.
+     */
+    public List<Location> getLocations() {
+        return locations;
+    }
+
+    /**
+     * @return The voyages, ordered by service then departure week.
+     */
+    public List<Voyage> getVoyages() {
+        return voyages;
+    }
+
+    public static class Builder {
+
+        private final LocalDateTime firstDeparture;
+        private long seed = DEFAULT_SEED;
+        private int portCount = 1000;
+        private int hubCount = 20;
+        private int weeks = 12;
+
+        /**
+         * @param firstDeparture no service leaves before this time, and every one leaves within
+         *                       the first week after it
+         */
+        public Builder(LocalDateTime firstDeparture) {
+            Objects.requireNonNull(firstDeparture, "First departure is required");
+            this.firstDeparture = firstDeparture;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder ports(int portCount) {
+            this.portCount = portCount;
+            return this;
+        }
+
+        public Builder hubs(int hubCount) {
+            this.hubCount = hubCount;
+            return this;
+        }
+
+        /**
+         * @param weeks number of weekly rotations of every service
+         */
+        public Builder weeks(int weeks) {
+            this.weeks = weeks;
+            return this;
+        }
+
+        public SampleNetwork build() {
+            if (hubCount < 1 || portCount < hubCount || portCount > MAX_PORTS || weeks < 1) {
+                throw new IllegalArgumentException(
+                        "A network needs at least one hub, no more hubs than ports, no more than "
+                                + MAX_PORTS
+                                + " ports and one week.");
+            }
+
+            SplittableRandom random = new SplittableRandom(seed);
+            List<Port> ports = scatterPorts(random);
+
+            List<Voyage> voyages = new ArrayList<>();
+            addRotations(voyages, "T", trunkServices(ports.subList(0, hubCount), random), random);
+            addRotations(voyages, "F", feederServices(ports, random), random);
+
+            return new SampleNetwork(ports.stream().map(Port::location).toList(), voyages);
+        }
+
+        private List<Port> scatterPorts(SplittableRandom random) {
+            Set<String> codes = new HashSet<>();
+            List<Port> ports = new ArrayList<>(portCount);
+
+            while (ports.size() < portCount) {
+                String code =
+                        "X" + letter(random) + letter(random) + letter(random) + letter(random);
+                if (codes.add(code)) {
+                    ports.add(
+                            new Port(
+                                    new Location(new UnLocode(code), "Port " + code),
+                                    random.nextDouble(PLANE_SIZE),
+                                    random.nextDouble(PLANE_SIZE)));
+                }
+            }
+            return ports;
+        }
+
+        /**
+         * Shuffles the hubs into trunk loops. Every loop also calls at two of the first hubs,
+         * the gateways, so that any two hubs are at most two loops apart.
+         */
+        private List<List<Port>> trunkServices(List<Port> hubs, SplittableRandom random) {
+            int gatewayCount = Math.min(GATEWAYS, hubs.size());
+            List<Port> gateways = hubs.subList(0, gatewayCount);
+            List<Port> shuffled = new ArrayList<>(hubs.subList(gatewayCount, hubs.size()));
+            for (int i = shuffled.size() - 1; i > 0; i--) {
+                Port hub = shuffled.set(random.nextInt(i + 1), shuffled.get(i));
+                shuffled.set(i, hub);
+            }
+
+            List<List<Port>> services = new ArrayList<>();
+            if (shuffled.isEmpty() && gatewayCount > 1) {
+                services.add(loop(gateways));
+            }
+            int start = 0;
+            while (start < shuffled.size()) {
+                int size = random.nextInt(MIN_TRUNK_HUBS, MAX_TRUNK_HUBS + 1);
+                int end = Math.min(start + size, shuffled.size());
+                int service = services.size();
+
+                List<Port> calls = new ArrayList<>();
+                calls.add(gateways.get(service % gatewayCount));
+                calls.addAll(shuffled.subList(start, end));
+                if (gatewayCount > 1) {
+                    calls.add(gateways.get((service + 1) % gatewayCount));
+                }
+                services.add(loop(calls));
+                start = end;
+            }
+            return services;
+        }
+
+        /**
+         * Every port which is not a hub is served from its closest hub, together with its
+         * neighbours around that hub.
+         */
+        private List<List<Port>> feederServices(List<Port> ports, SplittableRandom random) {
+            List<List<Port>> spokes = new ArrayList<>();
+            for (int hub = 0; hub < hubCount; hub++) {
+                spokes.add(new ArrayList<>());
+            }
+            for (Port port : ports.subList(hubCount, ports.size())) {
+                int closest = 0;
+                for (int hub = 1; hub < hubCount; hub++) {
+                    if (port.distanceTo(ports.get(hub)) < port.distanceTo(ports.get(closest))) {
+                        closest = hub;
+                    }
+                }
+                spokes.get(closest).add(port);
+            }
+
+            List<List<Port>> services = new ArrayList<>();
+            for (int hub = 0; hub < hubCount; hub++) {
+                Port center = ports.get(hub);
+                List<Port> around = spokes.get(hub);
+                around.sort(Comparator.comparingDouble(port -> port.angleFrom(center)));
+
+                int start = 0;
+                while (start < around.size()) {
+                    int size = random.nextInt(MIN_FEEDER_PORTS, MAX_FEEDER_PORTS + 1);
+                    int end = Math.min(start + size, around.size());
+                    List<Port> calls = new ArrayList<>();
+                    calls.add(center);
+                    calls.addAll(around.subList(start, end));
+                    services.add(loop(calls));
+                    start = end;
+                }
+            }
+            return services;
+        }
+
+        /**
+         * Adds the weekly rotations of every service, numbered after the service and the week.
+         */
+        private void addRotations(
+                List<Voyage> voyages,
+                String prefix,
+                List<List<Port>> services,
+                SplittableRandom random) {
+            for (int service = 0; service < services.size(); service++) {
+                // Services leave on different days and times of the week.
+                long offsetMinutes = random.nextLong(7 * 24 * 60);
+
+                for (int week = 0; week < weeks; week++) {
+                    voyages.add(
+                            rotation(
+                                    new VoyageNumber(
+                                            String.format(
+                                                    "%s%04dW%02d", prefix, service + 1, week + 1)),
+                                    services.get(service),
+                                    firstDeparture.plusWeeks(week).plusMinutes(offsetMinutes)));
+                }
+            }
+        }
+
+        private Voyage rotation(
+                VoyageNumber voyageNumber, List<Port> calls, LocalDateTime departure) {
+            Voyage.Builder builder = new Voyage.Builder(voyageNumber, calls.getFirst().location());
+            LocalDateTime departureTime = departure;
+
+            for (int i = 1; i < calls.size(); i++) {
+                long sailingMinutes =
+                        Math.max(
+                                MIN_SAILING_MINUTES,
+                                Math.round(calls.get(i - 1).distanceTo(calls.get(i)) / SPEED * 60));
+                LocalDateTime arrivalTime = departureTime.plusMinutes(sailingMinutes);
+                builder.addMovement(calls.get(i).location(), departureTime, arrivalTime);
+                departureTime = arrivalTime.plusMinutes(PORT_STAY_MINUTES);
+            }
+            return builder.build();
+        }
+
+        private static List<Port> loop(List<Port> calls) {
+            List<Port> loop = new ArrayList<>(calls);
+            loop.add(calls.getFirst());
+            return loop;
+        }
+
+        private static String letter(SplittableRandom random) {
+            return String.valueOf((char) ('A' + random.nextInt(26)));
+        }
+    }
+
+    private record Port(Location location, double x, double y) {
+
+        double distanceTo(Port other) {
+            return Math.hypot(x - other.x, y - other.y);
+        }
+
+        double angleFrom(Port center) {
+            return Math.atan2(y - center.y, x - center.x);
+        }
+    }
+}
@@ -194,52 +194,36 @@ public class SampleVoyages {
                     .addMovement(
                             SampleLocations.HANGZOU,
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(10)
                                     .plusDays(1)
                                     .plusHours(12),
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(10)
                                     .plusDays(3)
                                     .plusHours(14)
                                     .plusMinutes(30))
                     .addMovement(
                             SampleLocations.TOKYO,
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(10)
                                     .plusDays(4)
                                     .plusHours(21),
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(10)
                                     .plusDays(6)
                                     .plusHours(6)
                                     .plusMinutes(15))
                     .addMovement(
                             SampleLocations.MELBOURNE,
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(10)
                                     .plusDays(9)
                                     .plusHours(11),
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(10)
                                     .plusDays(12)
                                     .plusHours(11)
                                     .plusMinutes(30))
                     .addMovement(
                             SampleLocations.NEWYORK,
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(10)
                                     .plusDays(14)
                                     .plusHours(12),
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(10)
                                     .plusDays(23)
                                     .plusHours(23)
                                     .plusMinutes(10))
@@ -255,27 +239,19 @@ public class SampleVoyages {
                     .addMovement(
                             SampleLocations.CHICAGO,
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(10)
                                     .plusDays(24)
                                     .plusHours(7),
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(10)
                                     .plusDays(24)
                                     .plusHours(17)
                                     .plusMinutes(45))
                     .addMovement(
                             SampleLocations.DALLAS,
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(10)
                                     .plusDays(24)
                                     .plusHours(21)
                                     .plusMinutes(25),
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(10)
                                     .plusDays(25)
                                     .plusHours(19)
                                     .plusMinutes(30))
@@ -291,40 +267,32 @@ public class SampleVoyages {
                     .addMovement(
                             SampleLocations.HAMBURG,
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(10)
                                     .plusDays(29)
                                     .plusHours(3)
                                     .plusMinutes(30),
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(10)
                                     .plusDays(31)
                                     .plusHours(14))
                     .addMovement(
                             SampleLocations.STOCKHOLM,
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(11)
+                                    .plusMonths(1)
                                     .plusDays(1)
                                     .plusHours(15)
                                     .plusMinutes(20),
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(11)
+                                    .plusMonths(1)
                                     .plusDays(1)
                                     .plusHours(18)
                                     .plusMinutes(40))
                     .addMovement(
                             SampleLocations.HELSINKI,
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(11)
+                                    .plusMonths(1)
                                     .plusDays(2)
                                     .plusHours(9),
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(11)
+                                    .plusMonths(1)
                                     .plusDays(2)
                                     .plusHours(11)
                                     .plusMinutes(15))
@@ -340,14 +308,11 @@ public class SampleVoyages {
                     .addMovement(
                             SampleLocations.HELSINKI,
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(10)
                                     .plusDays(29)
                                     .plusHours(3)
                                     .plusMinutes(30),
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(11)
+                                    .plusMonths(1)
                                     .plusDays(5)
                                     .plusHours(15)
                                     .plusMinutes(45))
@@ -363,41 +328,35 @@ public class SampleVoyages {
                     .addMovement(
                             SampleLocations.ROTTERDAM,
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(11)
+                                    .plusMonths(1)
                                     .plusDays(4)
                                     .plusHours(5)
                                     .plusMinutes(50),
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(11)
+                                    .plusMonths(1)
                                     .plusDays(6)
                                     .plusHours(14)
                                     .plusMinutes(10))
                     .addMovement(
                             SampleLocations.SHANGHAI,
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(11)
+                                    .plusMonths(1)
                                     .plusDays(10)
                                     .plusHours(21)
                                     .plusMinutes(45),
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(11)
+                                    .plusMonths(1)
                                     .plusDays(22)
                                     .plusHours(16)
                                     .plusMinutes(40))
                     .addMovement(
                             SampleLocations.HONGKONG,
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(11)
+                                    .plusMonths(1)
                                     .plusDays(24)
                                     .plusHours(7),
                             LocalDateTime.now()
-                                    .minusYears(1)
-                                    .plusMonths(11)
+                                    .plusMonths(1)
                                     .plusDays(28)
                                     .plusHours(13)
                                     .plusMinutes(37))
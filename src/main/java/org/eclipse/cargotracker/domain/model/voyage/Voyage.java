@@ -1,11 +1,16 @@
 package org.eclipse.cargotracker.domain.model.voyage;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.NamedQuery;
+import jakarta.persistence.QueryHint;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import org.eclipse.cargotracker.domain.model.location.Location;
@@ -16,12 +21,29 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * Voyages are reference data, kept in the shared cache along with their schedules and the results
+ * of the query of all of them.
+ */
 @Entity
-@Table(name = "voyages")
+@Table(
+        name = "voyages",
+        indexes =
+        @Index(name = "voyages_voyage_number", columnList = "voyage_number", unique = true))
+@Cacheable
 @NamedQuery(
         name = "Voyage.findByVoyageNumber",
         query = "Select v from Voyage v where v.voyageNumber = :voyageNumber")
-@NamedQuery(name = "Voyage.findAll", query = "Select v from Voyage v order by v.voyageNumber")
+@NamedQuery(
+        name = "Voyage.findByVoyageNumbers",
+        query = "Select v from Voyage v where v.voyageNumber.number in :voyageNumbers")
+@NamedQuery(
+        name = "Voyage.findAll",
+        query = "Select v from Voyage v order by v.voyageNumber",
+        hints = {
+                @QueryHint(name = "eclipselink.query-results-cache", value = "true"),
+                @QueryHint(name = "org.hibernate.cacheable", value = "true")
+        })
 public class Voyage implements Serializable {
 
     // Null object pattern
@@ -29,7 +51,8 @@ public class Voyage implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "voyages_seq")
+    @SequenceGenerator(name = "voyages_seq", sequenceName = "voyages_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
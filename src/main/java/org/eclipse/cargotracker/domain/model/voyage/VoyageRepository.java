@@ -2,6 +2,7 @@ package org.eclipse.cargotracker.domain.model.voyage;
 
 import jakarta.annotation.Nullable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface VoyageRepository {
@@ -9,5 +10,10 @@ public interface VoyageRepository {
     @Nullable
     Voyage find(VoyageNumber voyageNumber);
 
+    /**
+     * @return The voyages found, in no particular order. Unknown codes are left out.
+     */
+    List<Voyage> findByVoyageNumbers(Collection<VoyageNumber> voyageNumbers);
+
     List<Voyage> findAll();
 }
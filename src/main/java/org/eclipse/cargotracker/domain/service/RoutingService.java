@@ -1,9 +1,16 @@
 package org.eclipse.cargotracker.domain.service;
 
+import jakarta.annotation.Nullable;
 import org.eclipse.cargotracker.domain.model.cargo.Itinerary;
 import org.eclipse.cargotracker.domain.model.cargo.RouteSpecification;
+import org.eclipse.cargotracker.domain.model.location.UnLocode;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 public interface RoutingService {
 
@@ -13,4 +20,74 @@ public interface RoutingService {
      * route is found.
      */
     List<Itinerary> fetchRoutesForSpecification(RouteSpecification routeSpecification);
+
+    /**
+     * Fetches the routes without blocking the caller while the routes are searched.
+     *
+     * @param routeSpecification Route specification
+     * @return The itineraries that satisfy the specification, as {@link
+     * #fetchRoutesForSpecification}.
+     * @implSpec The default implementation fetches the routes in the calling thread.
+     */
+    default CompletionStage<List<Itinerary>> fetchRoutesForSpecificationAsync(
+            RouteSpecification routeSpecification) {
+        return CompletableFuture.completedFuture(fetchRoutesForSpecification(routeSpecification));
+    }
+
+    /**
+     * Fetches the routes without blocking the caller, handing every itinerary over as soon as it
+     * is found rather than all of them at the end, e.g. to show the first routes while the others
+     * are still searched.
+     *
+     * @param routeSpecification Route specification
+     * @param consumer           called with every itinerary that satisfies the specification,
+     *                           possibly from another thread
+     * @return Completed once all the routes are found.
+     * @implSpec The default implementation hands the itineraries of {@link
+     * #fetchRoutesForSpecificationAsync(RouteSpecification)} over all at once.
+     */
+    default CompletionStage<Void> fetchRoutesForSpecificationAsync(
+            RouteSpecification routeSpecification, Consumer<Itinerary> consumer) {
+        return fetchRoutesForSpecificationAsync(routeSpecification)
+                .thenAccept(itineraries -> itineraries.forEach(consumer));
+    }
+
+    /**
+     * Fetches the routes of many specifications at once, e.g. to reroute all the cargos of a
+     * cancelled voyage.
+     *
+     * @param routeSpecifications Route specifications
+     * @return The itineraries that satisfy every specification, in the order of the
+     * specifications. An inner list may be empty if no route is found.
+     * @implSpec The default implementation fetches the routes one specification after the other.
+     */
+    default List<List<Itinerary>> fetchRoutesForSpecifications(
+            List<RouteSpecification> routeSpecifications) {
+        return routeSpecifications.stream().map(this::fetchRoutesForSpecification).toList();
+    }
+
+    /**
+     * Hints that the routes of a specification are about to be requested, e.g. right after a cargo
+     * is booked, so that they may be searched ahead of time. Returns at once, whether the routes
+     * are searched or not.
+     *
+     * @param routeSpecification Route specification
+     * @implSpec The default implementation does nothing.
+     */
+    default void prefetchRoutesForSpecification(RouteSpecification routeSpecification) {
+    }
+
+    /**
+     * Tells which destinations can be reached from an origin and the earliest a cargo can arrive
+     * there, without searching routes, e.g. to offer only reachable destinations when booking.
+     * No itinerary may arrive before these times, though the routes are not checked against them.
+     *
+     * @param origin Origin location
+     * @return The earliest arrival at every reachable destination, or null if it is not known.
+     * @implSpec The default implementation does not know.
+     */
+    @Nullable
+    default Map<UnLocode, LocalDateTime> fetchEarliestArrivals(UnLocode origin) {
+        return null;
+    }
 }
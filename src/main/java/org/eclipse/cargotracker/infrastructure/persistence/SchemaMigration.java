@@ -0,0 +1,60 @@
+package org.eclipse.cargotracker.infrastructure.persistence;
+
+import jakarta.annotation.Priority;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Startup;
+import jakarta.interceptor.Interceptor;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+
+import javax.sql.DataSource;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Migrates the database schema to the current version on startup, before anything reads or
+ * writes the database. The migrations are the versioned scripts in {@code db/migration}, they can
+ * also be run beforehand with {@code mvn flyway:migrate}.
+ *
+ * <p>A database whose schema was generated by the persistence provider, before there were
+ * migrations, is baselined at the first version, only the indexes, constraints and sequences added
+ * since are applied to it.
+ */
+@ApplicationScoped
+public class SchemaMigration {
+
+    private static final Logger LOGGER = Logger.getLogger(SchemaMigration.class.getName());
+
+    private static final String LOCATION = "classpath:db/migration";
+
+    // The schema generated by the persistence provider.
+    private static final String BASELINE_VERSION = "1";
+
+    @Resource(lookup = "java:app/jdbc/CargoTrackerDatabase")
+    private DataSource dataSource;
+
+    public void migrate(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) Startup startup) {
+        MigrateResult result =
+                Flyway.configure(SchemaMigration.class.getClassLoader())
+                        .dataSource(dataSource)
+                        .locations(LOCATION)
+                        .baselineOnMigrate(true)
+                        .baselineVersion(BASELINE_VERSION)
+                        .load()
+                        .migrate();
+
+        if (result.migrationsExecuted > 0) {
+            LOGGER.log(
+                    Level.INFO,
+                    "Applied {0} schema migrations, the schema is at version {1}",
+                    new Object[] {result.migrationsExecuted, result.targetSchemaVersion});
+        } else {
+            LOGGER.log(
+                    Level.INFO,
+                    "The schema is up to date, at version {0}",
+                    result.initialSchemaVersion);
+        }
+    }
+}
@@ -1,19 +1,27 @@
 package org.eclipse.cargotracker.infrastructure.persistence.jpa;
 
+import jakarta.annotation.Nullable;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
+import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
 import org.eclipse.cargotracker.domain.model.cargo.Cargo;
 import org.eclipse.cargotracker.domain.model.cargo.CargoRepository;
+import org.eclipse.cargotracker.domain.model.cargo.Leg;
 import org.eclipse.cargotracker.domain.model.cargo.TrackingId;
 
 import java.io.Serializable;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @ApplicationScoped
 @Transactional
@@ -22,6 +30,14 @@ public class JpaCargoRepository implements CargoRepository, Serializable {
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = Logger.getLogger(JpaCargoRepository.class.getName());
 
+    // Attributes of the entity graph are loaded, the others as they are mapped.
+    static final String LOAD_GRAPH = "jakarta.persistence.loadgraph";
+
+    // Rows fetched from the database at once when streaming, the JDBC driver default may be all.
+    private static final int FETCH_SIZE = 500;
+    private static final String ECLIPSELINK_FETCH_SIZE = "eclipselink.jdbc.fetch-size";
+    private static final String HIBERNATE_FETCH_SIZE = "org.hibernate.fetchSize";
+
     private EntityManager entityManager;
 
     // No-arg constructor required by CDI
@@ -41,6 +57,7 @@ public class JpaCargoRepository implements CargoRepository, Serializable {
             cargo = entityManager
                     .createNamedQuery("Cargo.findByTrackingId", Cargo.class)
                     .setParameter("trackingId", trackingId)
+                    .setHint(LOAD_GRAPH, entityManager.getEntityGraph("cargo-with-itinerary"))
                     .getSingleResult();
         } catch (NoResultException e) {
             LOGGER.log(Level.FINE, "Find called on non-existant tracking ID.", e);
@@ -52,16 +69,23 @@ public class JpaCargoRepository implements CargoRepository, Serializable {
 
     @Override
     public void store(Cargo cargo) {
-        // TODO [Clean Code] See why cascade is not working correctly for legs.
-        cargo.getItinerary().legs().forEach(leg -> entityManager.persist(leg));
+        if (cargo.isItineraryChanged()) {
+            // TODO [Clean Code] See why cascade is not working correctly for legs.
+            cargo.getItinerary().legs().stream()
+                    .filter(Leg::isNew)
+                    .forEach(leg -> entityManager.persist(leg));
+        }
 
         entityManager.persist(cargo);
 
         // Hibernate issue:
-        // Delete-orphan does not seem to work correctly when the parent is a component
-        this.entityManager
-                .createNativeQuery("DELETE FROM legs WHERE cargo_id IS NULL")
-                .executeUpdate();
+        // Delete-orphan does not seem to work correctly when the parent is a component, the legs
+        // of a replaced itinerary are left with no cargo. Only those of this cargo are removed,
+        // the OrphanedLegJanitor takes care of any left over otherwise.
+        for (Leg leg : cargo.getReplacedLegs()) {
+            entityManager.remove(entityManager.contains(leg) ? leg : entityManager.merge(leg));
+        }
+        cargo.itineraryStored();
     }
 
     @Override
@@ -75,4 +99,84 @@ public class JpaCargoRepository implements CargoRepository, Serializable {
     public List<Cargo> findAll() {
         return entityManager.createNamedQuery("Cargo.findAll", Cargo.class).getResultList();
     }
+
+    @Override
+    public List<Cargo> findAll(@Nullable TrackingId after, int limit) {
+        TypedQuery<Cargo> query =
+                after == null
+                        ? entityManager.createNamedQuery("Cargo.findAllOrdered", Cargo.class)
+                        : entityManager
+                                .createNamedQuery("Cargo.findAllAfter", Cargo.class)
+                                .setParameter("after", after.id());
+
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public Stream<Cargo> streamAll() {
+        Stream<Cargo> cargos =
+                entityManager
+                        .createNamedQuery("Cargo.findAllOrdered", Cargo.class)
+                        .setHint(ECLIPSELINK_FETCH_SIZE, FETCH_SIZE)
+                        .setHint(HIBERNATE_FETCH_SIZE, FETCH_SIZE)
+                        .getResultStream();
+
+        Iterator<Cargo> results = cargos.iterator();
+        Iterator<Cargo> detaching =
+                new Iterator<>() {
+                    private Cargo previous;
+
+                    // Asked for once the previous cargo has gone through the stream.
+                    @Override
+                    public boolean hasNext() {
+                        detachPrevious();
+                        return results.hasNext();
+                    }
+
+                    @Override
+                    public Cargo next() {
+                        detachPrevious();
+                        previous = results.next();
+                        return previous;
+                    }
+
+                    private void detachPrevious() {
+                        if (previous != null) {
+                            entityManager.detach(previous);
+                            previous = null;
+                        }
+                    }
+                };
+
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(detaching, Spliterator.ORDERED), false)
+                .onClose(cargos::close);
+    }
+
+    /**
+     * Removes legs that belong to no cargo anymore, in a transaction of their own.
+     *
+     * @param batchSize at most this many legs are removed
+     * @return The number of legs removed.
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public int removeOrphanedLegs(int batchSize) {
+        List<?> orphans =
+                entityManager
+                        .createNativeQuery("SELECT id FROM legs WHERE cargo_id IS NULL")
+                        .setMaxResults(batchSize)
+                        .getResultList();
+
+        if (orphans.isEmpty()) {
+            return 0;
+        }
+
+        // The type of the column values depends on the database.
+        List<Long> ids = orphans.stream().map(id -> ((Number) id).longValue()).toList();
+        return entityManager
+                .createQuery("DELETE FROM Leg l WHERE l.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package org.eclipse.cargotracker.infrastructure.persistence.jpa;
+
+import jakarta.annotation.Nullable;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.transaction.Transactional;
+import org.eclipse.cargotracker.domain.model.cargo.CargoSummary;
+import org.eclipse.cargotracker.domain.model.cargo.CargoSummaryRepository;
+import org.eclipse.cargotracker.domain.model.cargo.TrackingId;
+
+import java.io.Serializable;
+import java.util.List;
+
+@ApplicationScoped
+@Transactional
+public class JpaCargoSummaryRepository implements CargoSummaryRepository, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private EntityManager entityManager;
+
+    // No-arg constructor required by CDI
+    public JpaCargoSummaryRepository() {
+    }
+
+    @Inject
+    public JpaCargoSummaryRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<CargoSummary> findAll(@Nullable TrackingId after, int limit) {
+        TypedQuery<CargoSummary> query =
+                after == null
+                        ? entityManager.createNamedQuery("Cargo.findAllSummaries", CargoSummary.class)
+                        : entityManager
+                                .createNamedQuery("Cargo.findSummariesAfter", CargoSummary.class)
+                                .setParameter("after", after.id());
+
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<TrackingId> findAllTrackingIds() {
+        return entityManager
+                .createNamedQuery("Cargo.findAllTrackingIds", String.class)
+                .getResultList().stream()
+                .map(TrackingId::new)
+                .toList();
+    }
+}
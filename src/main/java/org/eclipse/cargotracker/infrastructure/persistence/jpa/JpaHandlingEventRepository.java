@@ -39,6 +39,23 @@ public class JpaHandlingEventRepository implements HandlingEventRepository, Seri
                 entityManager
                         .createNamedQuery("HandlingEvent.findByTrackingId", HandlingEvent.class)
                         .setParameter("trackingId", trackingId)
+                        .setHint(
+                                JpaCargoRepository.LOAD_GRAPH,
+                                entityManager.getEntityGraph("history-with-refs"))
                         .getResultList());
     }
-}
\ No newline at end of file
+
+    @Override
+    public HandlingEvent findMostRecentlyCompleted(TrackingId trackingId) {
+        return entityManager
+                .createNamedQuery("HandlingEvent.findMostRecentlyCompleted", HandlingEvent.class)
+                .setParameter("trackingId", trackingId)
+                .setHint(
+                        JpaCargoRepository.LOAD_GRAPH,
+                        entityManager.getEntityGraph("history-with-refs"))
+                .setMaxResults(1)
+                .getResultList().stream()
+                .findFirst()
+                .orElse(null);
+    }
+}
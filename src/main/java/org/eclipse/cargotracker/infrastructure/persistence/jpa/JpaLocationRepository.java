@@ -10,6 +10,7 @@ import org.eclipse.cargotracker.domain.model.location.LocationRepository;
 import org.eclipse.cargotracker.domain.model.location.UnLocode;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -22,18 +23,38 @@ public class JpaLocationRepository implements LocationRepository, Serializable {
     private static final Logger LOGGER = Logger.getLogger(JpaLocationRepository.class.getName());
 
     private EntityManager entityManager;
+    private ReferenceDataCache referenceDataCache;
 
     // No-arg constructor required by CDI
     public JpaLocationRepository() {
     }
 
     @Inject
-    public JpaLocationRepository(EntityManager entityManager) {
+    public JpaLocationRepository(
+            EntityManager entityManager, ReferenceDataCache referenceDataCache) {
         this.entityManager = entityManager;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Override
     public Location find(UnLocode unLocode) {
+        return referenceDataCache.findLocation(unLocode, this::queryByUnLocode);
+    }
+
+    @Override
+    public List<Location> findByUnLocodes(Collection<UnLocode> unLocodes) {
+        if (unLocodes.isEmpty()) {
+            return List.of();
+        }
+        return referenceDataCache.findLocations(unLocodes, this::queryByUnLocodes);
+    }
+
+    @Override
+    public List<Location> findAll() {
+        return entityManager.createNamedQuery("Location.findAll", Location.class).getResultList();
+    }
+
+    private Location queryByUnLocode(UnLocode unLocode) {
         Location location;
         try {
             location =
@@ -48,8 +69,10 @@ public class JpaLocationRepository implements LocationRepository, Serializable {
         return location;
     }
 
-    @Override
-    public List<Location> findAll() {
-        return entityManager.createNamedQuery("Location.findAll", Location.class).getResultList();
+    private List<Location> queryByUnLocodes(List<UnLocode> unLocodes) {
+        return entityManager
+                .createNamedQuery("Location.findByUnLocodes", Location.class)
+                .setParameter("unLocodes", unLocodes.stream().map(UnLocode::unlocode).toList())
+                .getResultList();
     }
-}
\ No newline at end of file
+}
@@ -10,6 +10,7 @@ import org.eclipse.cargotracker.domain.model.voyage.VoyageNumber;
 import org.eclipse.cargotracker.domain.model.voyage.VoyageRepository;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -22,19 +23,39 @@ public class JpaVoyageRepository implements VoyageRepository, Serializable {
     private static final Logger LOGGER = Logger.getLogger(JpaVoyageRepository.class.getName());
 
     private EntityManager entityManager;
+    private ReferenceDataCache referenceDataCache;
 
     // No-arg constructor required by CDI
     public JpaVoyageRepository() {
     }
 
     @Inject
-    public JpaVoyageRepository(EntityManager entityManager) {
+    public JpaVoyageRepository(
+            EntityManager entityManager, ReferenceDataCache referenceDataCache) {
         this.entityManager = entityManager;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Override
     public Voyage find(VoyageNumber voyageNumber) {
-        LOGGER.log(Level.INFO, "Voyage.findByVoyageNumber: {0}", new Object[]{ voyageNumber});
+        return referenceDataCache.findVoyage(voyageNumber, this::queryByVoyageNumber);
+    }
+
+    @Override
+    public List<Voyage> findByVoyageNumbers(Collection<VoyageNumber> voyageNumbers) {
+        if (voyageNumbers.isEmpty()) {
+            return List.of();
+        }
+        return referenceDataCache.findVoyages(voyageNumbers, this::queryByVoyageNumbers);
+    }
+
+    @Override
+    public List<Voyage> findAll() {
+        return entityManager.createNamedQuery("Voyage.findAll", Voyage.class).getResultList();
+    }
+
+    private Voyage queryByVoyageNumber(VoyageNumber voyageNumber) {
+        LOGGER.log(Level.FINE, "Voyage.findByVoyageNumber: {0}", new Object[]{ voyageNumber});
         Voyage voyage = null;
         try {
             voyage =
@@ -51,8 +72,12 @@ public class JpaVoyageRepository implements VoyageRepository, Serializable {
         return voyage;
     }
 
-    @Override
-    public List<Voyage> findAll() {
-        return entityManager.createNamedQuery("Voyage.findAll", Voyage.class).getResultList();
+    private List<Voyage> queryByVoyageNumbers(List<VoyageNumber> voyageNumbers) {
+        return entityManager
+                .createNamedQuery("Voyage.findByVoyageNumbers", Voyage.class)
+                .setParameter(
+                        "voyageNumbers",
+                        voyageNumbers.stream().map(VoyageNumber::number).toList())
+                .getResultList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+package org.eclipse.cargotracker.infrastructure.persistence.jpa;
+
+import jakarta.enterprise.concurrent.Asynchronous;
+import jakarta.enterprise.concurrent.Schedule;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Startup;
+import jakarta.inject.Inject;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Periodically removes the legs left without a cargo. Storing a cargo removes the legs of the
+ * itineraries it was assigned away from, this only takes care of what may have been left over
+ * otherwise, e.g. by an earlier version. The legs are removed in batches, each in a transaction of
+ * its own, so that the table is never locked for long.
+ */
+@ApplicationScoped
+public class OrphanedLegJanitor {
+
+    private static final Logger LOGGER = Logger.getLogger(OrphanedLegJanitor.class.getName());
+
+    private static final int BATCH_SIZE = 500;
+
+    private JpaCargoRepository cargoRepository;
+
+    // No-arg constructor required by CDI
+    public OrphanedLegJanitor() {
+    }
+
+    @Inject
+    public OrphanedLegJanitor(JpaCargoRepository cargoRepository) {
+        this.cargoRepository = cargoRepository;
+    }
+
+    public void init(@Observes Startup startup) {
+        // The concurrency schedule requires a manual call to start up scheduled task.
+        this.removeOrphanedLegs();
+    }
+
+    @Asynchronous(runAt = @Schedule(cron = "0 * * * *")) // every hour
+    public void removeOrphanedLegs() {
+        int total = 0;
+        int removed;
+        do {
+            removed = cargoRepository.removeOrphanedLegs(BATCH_SIZE);
+            total += removed;
+        } while (removed == BATCH_SIZE);
+
+        if (total > 0) {
+            LOGGER.log(Level.INFO, "Removed {0} orphaned legs", total);
+        }
+    }
+}
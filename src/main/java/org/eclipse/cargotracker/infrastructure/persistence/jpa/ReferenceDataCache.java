@@ -0,0 +1,157 @@
+package org.eclipse.cargotracker.infrastructure.persistence.jpa;
+
+import jakarta.annotation.Nullable;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.eclipse.cargotracker.domain.model.location.Location;
+import org.eclipse.cargotracker.domain.model.location.UnLocode;
+import org.eclipse.cargotracker.domain.model.voyage.Voyage;
+import org.eclipse.cargotracker.domain.model.voyage.VoyageNumber;
+import org.eclipse.cargotracker.infrastructure.events.cdi.ScheduleChanged;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Identifiers of the locations and voyages by UN location code and voyage number. Locations and
+ * voyages are read far more often than they change, e.g. twice for every handling event, and are
+ * kept in the JPA shared cache: once its identifier is known, a location or voyage is found by
+ * primary key from the shared cache, without querying the database by its natural key.
+ *
+ * <p>The entities themselves are not kept here, they are always found through the current
+ * persistence context. An identifier whose entity has been removed since, e.g. when the sample data
+ * is reloaded, is dropped and the entity is queried again. The voyage of a changed schedule is
+ * evicted from both caches, in case the change bypassed the persistence context.
+ *
+ * <p>Locations are never changed, they have no state to change other than their code and name,
+ * and are only ever removed and added again as a whole. Their identifiers are therefore only
+ * dropped once their entity can no longer be found. Locations must not be removed bypassing the
+ * persistence provider, e.g. with native SQL, or a removed one may still be found in the shared
+ * cache.
+ */
+@ApplicationScoped
+public class ReferenceDataCache {
+
+    private static final Logger LOGGER = Logger.getLogger(ReferenceDataCache.class.getName());
+
+    private EntityManager entityManager;
+
+    private final ConcurrentMap<UnLocode, Object> locationIds = new ConcurrentHashMap<>();
+    private final ConcurrentMap<VoyageNumber, Object> voyageIds = new ConcurrentHashMap<>();
+
+    // No-arg constructor required by CDI
+    public ReferenceDataCache() {
+    }
+
+    @Inject
+    public ReferenceDataCache(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @param query finds the location by its code, if its identifier is not known
+     */
+    @Nullable
+    public Location findLocation(UnLocode unLocode, Function<UnLocode, Location> query) {
+        return find(Location.class, locationIds, unLocode, query);
+    }
+
+    /**
+     * @param query finds the locations whose identifiers are not known, by their codes
+     * @return The locations found, in no particular order.
+     */
+    public List<Location> findLocations(
+            Collection<UnLocode> unLocodes, Function<List<UnLocode>, List<Location>> query) {
+        return findAll(Location.class, locationIds, unLocodes, query, Location::getUnLocode);
+    }
+
+    /**
+     * @param query finds the voyage by its number, if its identifier is not known
+     */
+    @Nullable
+    public Voyage findVoyage(VoyageNumber voyageNumber, Function<VoyageNumber, Voyage> query) {
+        return find(Voyage.class, voyageIds, voyageNumber, query);
+    }
+
+    /**
+     * @param query finds the voyages whose identifiers are not known, by their numbers
+     * @return The voyages found, in no particular order.
+     */
+    public List<Voyage> findVoyages(
+            Collection<VoyageNumber> voyageNumbers,
+            Function<List<VoyageNumber>, List<Voyage>> query) {
+        return findAll(Voyage.class, voyageIds, voyageNumbers, query, Voyage::getVoyageNumber);
+    }
+
+    public void onScheduleChanged(
+            @Observes(during = TransactionPhase.AFTER_SUCCESS) @ScheduleChanged Voyage voyage) {
+        Object id = voyageIds.remove(voyage.getVoyageNumber());
+        if (id != null) {
+            LOGGER.log(Level.FINE, "Evicting {0}, its schedule has changed", voyage);
+            entityManager.getEntityManagerFactory().getCache().evict(Voyage.class, id);
+        }
+    }
+
+    private <K, T> T find(
+            Class<T> type, ConcurrentMap<K, Object> ids, K key, Function<K, T> query) {
+        Object id = ids.get(key);
+        if (id != null) {
+            T entity = entityManager.find(type, id);
+            if (entity != null) {
+                return entity;
+            }
+            ids.remove(key, id);
+        }
+
+        T entity = query.apply(key);
+        if (entity != null) {
+            ids.put(key, identifierOf(entity));
+        }
+        return entity;
+    }
+
+    private <K, T> List<T> findAll(
+            Class<T> type,
+            ConcurrentMap<K, Object> ids,
+            Collection<K> keys,
+            Function<List<K>, List<T>> query,
+            Function<T, K> keyOf) {
+        List<T> found = new ArrayList<>(keys.size());
+        List<K> missing = new ArrayList<>();
+        for (K key : new LinkedHashSet<>(keys)) {
+            Object id = ids.get(key);
+            T entity = id == null ? null : entityManager.find(type, id);
+            if (entity != null) {
+                found.add(entity);
+            } else {
+                if (id != null) {
+                    ids.remove(key, id);
+                }
+                missing.add(key);
+            }
+        }
+
+        // The unknown ones are looked up with a single query.
+        if (!missing.isEmpty()) {
+            for (T entity : query.apply(missing)) {
+                ids.put(keyOf.apply(entity), identifierOf(entity));
+                found.add(entity);
+            }
+        }
+        return found;
+    }
+
+    private Object identifierOf(Object entity) {
+        return entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity);
+    }
+}
@@ -1,22 +1,39 @@
 package org.eclipse.cargotracker.infrastructure.routing;
 
+import jakarta.annotation.Nullable;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import org.eclipse.cargotracker.domain.model.cargo.Itinerary;
 import org.eclipse.cargotracker.domain.model.cargo.Leg;
 import org.eclipse.cargotracker.domain.model.cargo.RouteSpecification;
+import org.eclipse.cargotracker.domain.model.location.Location;
 import org.eclipse.cargotracker.domain.model.location.LocationRepository;
 import org.eclipse.cargotracker.domain.model.location.UnLocode;
+import org.eclipse.cargotracker.domain.model.voyage.Voyage;
 import org.eclipse.cargotracker.domain.model.voyage.VoyageNumber;
 import org.eclipse.cargotracker.domain.model.voyage.VoyageRepository;
 import org.eclipse.cargotracker.domain.service.RoutingService;
-import org.eclipse.cargotracker.infrastructure.routing.client.GraphTraversalResourceClient;
+import org.eclipse.cargotracker.infrastructure.routing.client.GraphTraversalClient;
+import org.eclipse.pathfinder.api.RouteQuery;
 import org.eclipse.pathfinder.api.TransitEdge;
 import org.eclipse.pathfinder.api.TransitPath;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -24,6 +41,15 @@ import java.util.logging.Logger;
  * Our end of the routing service. This is basically a data model translation layer between our
  * domain model and the API put forward by the routing team, which operates in a different context
  * from us.
+ *
+ * <p>The paths found are kept in a {@link RouteCache}, so that the same lanes are not searched
+ * again and again while the schedules do not change.
+ *
+ * <p>Prefetched paths are only cached, not translated: the itineraries are built when the routes
+ * are actually requested, from the cache then.
+ *
+ * <p>The asynchronous variants translate the paths back into itineraries on the managed executor,
+ * as this looks up voyages and locations, rather than on the threads of the REST client.
  */
 @ApplicationScoped
 @Transactional
@@ -33,7 +59,13 @@ public class ExternalRoutingService implements RoutingService {
 
     private LocationRepository locationRepository;
     private VoyageRepository voyageRepository;
-    private GraphTraversalResourceClient graphTraversalResource;
+    private GraphTraversalClient graphTraversalResource;
+    private RouteCache routeCache;
+    private ManagedExecutorService executorService;
+
+    // Prefetches in flight, by lane.
+    private final ConcurrentMap<RouteCache.Key, CompletableFuture<List<TransitPath>>> prefetches =
+            new ConcurrentHashMap<>();
 
     // reserved by CDI.
     public ExternalRoutingService() {
@@ -43,27 +75,240 @@ public class ExternalRoutingService implements RoutingService {
     public ExternalRoutingService(
             LocationRepository locationRepository,
             VoyageRepository voyageRepository,
-            GraphTraversalResourceClient graphTraversalResource) {
+            GraphTraversalClient graphTraversalResource,
+            RouteCache routeCache,
+            ManagedExecutorService executorService) {
         this.locationRepository = locationRepository;
         this.voyageRepository = voyageRepository;
         this.graphTraversalResource = graphTraversalResource;
+        this.routeCache = routeCache;
+        this.executorService = executorService;
     }
 
 
     @Override
     public List<Itinerary> fetchRoutesForSpecification(RouteSpecification routeSpecification) {
-        // The RouteSpecification is picked apart and adapted to the external API.
-        String origin = routeSpecification.origin().getUnLocode().unlocode();
-        String destination = routeSpecification.destination().getUnLocode().unlocode();
+        RouteCache.Key key = RouteCache.Key.of(routeSpecification);
+        List<TransitPath> transitPaths = routeCache.get(key);
+
+        if (transitPaths == null) {
+            long generation = routeCache.generation();
+            // The RouteSpecification is picked apart and adapted to the external API.
+            RouteQuery query = toRouteQuery(key);
+            transitPaths =
+                    this.graphTraversalResource.findShortestPath(
+                            query.origin(), query.destination(), query.deadline());
+            routeCache.put(key, transitPaths, generation);
+        }
+
+        return toItineraries(routeSpecification, transitPaths);
+    }
+
+    @Override
+    public CompletionStage<List<Itinerary>> fetchRoutesForSpecificationAsync(
+            RouteSpecification routeSpecification) {
+        RouteCache.Key key = RouteCache.Key.of(routeSpecification);
+        List<TransitPath> cached = routeCache.get(key);
+
+        if (cached != null) {
+            return CompletableFuture.completedFuture(toItineraries(routeSpecification, cached));
+        }
+
+        long generation = routeCache.generation();
+        RouteQuery query = toRouteQuery(key);
+        return this.graphTraversalResource
+                .findShortestPathAsync(query.origin(), query.destination(), query.deadline())
+                .thenApplyAsync(
+                        transitPaths -> {
+                            routeCache.put(key, transitPaths, generation);
+                            return toItineraries(routeSpecification, transitPaths);
+                        },
+                        executorService);
+    }
+
+    /**
+     * Streams the paths from the path-finder on the managed executor and translates them one at a
+     * time, so that the first route is not held up by the search of the others. Only the voyages
+     * and locations not seen in the earlier paths of the stream are looked up for a path. The
+     * paths are cached once all are found.
+     *
+     * <p>If the routes of the lane are being prefetched, e.g. right after booking, the prefetch is
+     * awaited and its routes handed over at once, rather than searched a second time. Should the
+     * prefetch fail, the paths are streamed after all.
+     */
+    @Override
+    public CompletionStage<Void> fetchRoutesForSpecificationAsync(
+            RouteSpecification routeSpecification, Consumer<Itinerary> consumer) {
+        RouteCache.Key key = RouteCache.Key.of(routeSpecification);
+        List<TransitPath> cached = routeCache.get(key);
+
+        if (cached != null) {
+            toItineraries(routeSpecification, cached).forEach(consumer);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<List<TransitPath>> prefetch = prefetches.get(key);
+        if (prefetch != null) {
+            LOGGER.log(Level.FINE, "Awaiting the prefetched routes of {0}", key);
+            return prefetch.handleAsync(
+                    (transitPaths, failure) -> {
+                        if (failure == null) {
+                            toItineraries(routeSpecification, transitPaths).forEach(consumer);
+                        } else {
+                            streamRoutes(routeSpecification, key, consumer);
+                        }
+                        return null;
+                    },
+                    executorService);
+        }
+
+        return CompletableFuture.runAsync(
+                () -> streamRoutes(routeSpecification, key, consumer), executorService);
+    }
+
+    private void streamRoutes(
+            RouteSpecification routeSpecification,
+            RouteCache.Key key,
+            Consumer<Itinerary> consumer) {
+        long generation = routeCache.generation();
+        RouteQuery query = toRouteQuery(key);
+        List<TransitPath> transitPaths = new ArrayList<>();
+        ReferenceData referenceData = ReferenceData.empty();
+        this.graphTraversalResource.findShortestPath(
+                query.origin(),
+                query.destination(),
+                query.deadline(),
+                transitPath -> {
+                    transitPaths.add(transitPath);
+                    resolveReferenceData(List.of(List.of(transitPath)), referenceData);
+                    toItineraries(routeSpecification, List.of(transitPath), referenceData)
+                            .forEach(consumer);
+                });
+        routeCache.put(key, transitPaths, generation);
+    }
+
+    /**
+     * The prefetch is tracked until its paths are cached, so that the routes of the lane requested
+     * meanwhile wait for it instead of searching again.
+     */
+    @Override
+    public void prefetchRoutesForSpecification(RouteSpecification routeSpecification) {
+        RouteCache.Key key = RouteCache.Key.of(routeSpecification);
+        if (routeCache.get(key) != null || prefetches.containsKey(key)) {
+            return;
+        }
+
+        long generation = routeCache.generation();
+        RouteQuery query = toRouteQuery(key);
+        try {
+            CompletableFuture<List<TransitPath>> prefetch =
+                    this.graphTraversalResource
+                            .findShortestPathAsync(
+                                    query.origin(), query.destination(), query.deadline())
+                            .toCompletableFuture();
+            prefetches.put(key, prefetch);
+            prefetch.whenComplete(
+                    (transitPaths, failure) -> {
+                        if (failure == null) {
+                            routeCache.put(key, transitPaths, generation);
+                        } else {
+                            LOGGER.log(
+                                    Level.FINE,
+                                    "Unable to prefetch the routes of " + key,
+                                    failure);
+                        }
+                        // Only once cached, so that the routes are found in one or the other.
+                        prefetches.remove(key, prefetch);
+                    });
+        } catch (RuntimeException e) {
+            // Only a hint, the routes will be searched when requested.
+            LOGGER.log(Level.FINE, "Unable to prefetch the routes of " + key, e);
+        }
+    }
 
-        List<TransitPath> transitPaths = this.graphTraversalResource.findShortestPath(origin, destination);
+    @Override
+    public List<List<Itinerary>> fetchRoutesForSpecifications(
+            List<RouteSpecification> routeSpecifications) {
+        if (routeSpecifications.isEmpty()) {
+            return List.of();
+        }
+
+        // Only the lanes missing from the cache are searched, once each.
+        Map<RouteCache.Key, List<TransitPath>> transitPaths = new HashMap<>();
+        List<RouteCache.Key> missing = new ArrayList<>();
+        for (RouteSpecification routeSpecification : routeSpecifications) {
+            RouteCache.Key key = RouteCache.Key.of(routeSpecification);
+            if (!transitPaths.containsKey(key)) {
+                List<TransitPath> cached = routeCache.get(key);
+                if (cached == null) {
+                    missing.add(key);
+                }
+                transitPaths.put(key, cached);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long generation = routeCache.generation();
+            List<List<TransitPath>> found =
+                    this.graphTraversalResource.findShortestPaths(
+                            missing.stream().map(this::toRouteQuery).toList());
+            for (int i = 0; i < missing.size(); i++) {
+                transitPaths.put(missing.get(i), found.get(i));
+                routeCache.put(missing.get(i), found.get(i), generation);
+            }
+        }
+
+        ReferenceData referenceData = resolveReferenceData(transitPaths.values());
+        return routeSpecifications.stream()
+                .map(
+                        routeSpecification ->
+                                toItineraries(
+                                        routeSpecification,
+                                        transitPaths.get(RouteCache.Key.of(routeSpecification)),
+                                        referenceData))
+                .toList();
+    }
+
+    @Nullable
+    @Override
+    public Map<UnLocode, LocalDateTime> fetchEarliestArrivals(UnLocode origin) {
+        Map<String, LocalDateTime> earliestArrivals =
+                this.graphTraversalResource.findEarliestArrivals(origin.unlocode());
+        if (earliestArrivals == null) {
+            return null;
+        }
+
+        Map<UnLocode, LocalDateTime> result = new LinkedHashMap<>();
+        earliestArrivals.forEach(
+                (unLocode, arrival) -> result.put(new UnLocode(unLocode), arrival));
+        return result;
+    }
+
+    private RouteQuery toRouteQuery(RouteCache.Key key) {
+        return new RouteQuery(
+                key.originUnLocode(),
+                key.destinationUnLocode(),
+                // The path-finder prunes every path that can not arrive before the end of the
+                // deadline bucket, the exact deadline is checked by the specification.
+                key.deadlineBucket().toString());
+    }
 
+    private List<Itinerary> toItineraries(
+            RouteSpecification routeSpecification, List<TransitPath> transitPaths) {
+        return toItineraries(
+                routeSpecification, transitPaths, resolveReferenceData(List.of(transitPaths)));
+    }
+
+    private List<Itinerary> toItineraries(
+            RouteSpecification routeSpecification,
+            List<TransitPath> transitPaths,
+            ReferenceData referenceData) {
         // The returned result is then translated back into our domain model.
         List<Itinerary> itineraries = new ArrayList<>();
 
         // Use the specification to safe-guard against invalid itineraries
         transitPaths.stream()
-                .map(this::toItinerary)
+                .map(transitPath -> toItinerary(transitPath, referenceData))
                 .forEach(
                         itinerary -> {
                             if (routeSpecification.isSatisfiedBy(itinerary)) {
@@ -79,20 +324,69 @@ public class ExternalRoutingService implements RoutingService {
         return itineraries;
     }
 
-    private Itinerary toItinerary(TransitPath transitPath) {
+    private Itinerary toItinerary(TransitPath transitPath, ReferenceData referenceData) {
         List<Leg> legs =
                 transitPath.transitEdges().stream()
-                        .map(this::toLeg)
+                        .map(edge -> toLeg(edge, referenceData))
                         .toList();
         return new Itinerary(legs);
     }
 
-    private Leg toLeg(TransitEdge edge) {
+    private Leg toLeg(TransitEdge edge, ReferenceData referenceData) {
         return new Leg(
-                voyageRepository.find(new VoyageNumber(edge.voyageNumber())),
-                locationRepository.find(new UnLocode(edge.fromUnLocode())),
-                locationRepository.find(new UnLocode(edge.toUnLocode())),
+                referenceData.voyages().get(new VoyageNumber(edge.voyageNumber())),
+                referenceData.locations().get(new UnLocode(edge.fromUnLocode())),
+                referenceData.locations().get(new UnLocode(edge.toUnLocode())),
                 edge.fromDate(),
                 edge.toDate());
     }
+
+    /**
+     * Looks up all the voyages and locations of the paths with one query each, however many
+     * legs the paths have.
+     */
+    private ReferenceData resolveReferenceData(Collection<List<TransitPath>> transitPaths) {
+        return resolveReferenceData(transitPaths, ReferenceData.empty());
+    }
+
+    /**
+     * Adds the voyages and locations of the paths that are not known yet, with at most one query
+     * each.
+     */
+    private ReferenceData resolveReferenceData(
+            Collection<List<TransitPath>> transitPaths, ReferenceData known) {
+        Set<VoyageNumber> voyageNumbers = new HashSet<>();
+        Set<UnLocode> unLocodes = new HashSet<>();
+        for (List<TransitPath> paths : transitPaths) {
+            for (TransitPath path : paths) {
+                for (TransitEdge edge : path.transitEdges()) {
+                    voyageNumbers.add(new VoyageNumber(edge.voyageNumber()));
+                    unLocodes.add(new UnLocode(edge.fromUnLocode()));
+                    unLocodes.add(new UnLocode(edge.toUnLocode()));
+                }
+            }
+        }
+        voyageNumbers.removeAll(known.voyages().keySet());
+        unLocodes.removeAll(known.locations().keySet());
+
+        if (!voyageNumbers.isEmpty()) {
+            voyageRepository
+                    .findByVoyageNumbers(voyageNumbers)
+                    .forEach(voyage -> known.voyages().put(voyage.getVoyageNumber(), voyage));
+        }
+        if (!unLocodes.isEmpty()) {
+            locationRepository
+                    .findByUnLocodes(unLocodes)
+                    .forEach(location -> known.locations().put(location.getUnLocode(), location));
+        }
+        return known;
+    }
+
+    private record ReferenceData(
+            Map<VoyageNumber, Voyage> voyages, Map<UnLocode, Location> locations) {
+
+        static ReferenceData empty() {
+            return new ReferenceData(new HashMap<>(), new HashMap<>());
+        }
+    }
 }
@@ -0,0 +1,206 @@
+package org.eclipse.cargotracker.infrastructure.routing;
+
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.interceptor.Interceptor;
+import org.eclipse.cargotracker.domain.model.cargo.RouteSpecification;
+import org.eclipse.pathfinder.api.ScheduleChange;
+import org.eclipse.pathfinder.api.TransitPath;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded cache of the paths returned by the path-finder, evicting the least recently used entries
+ * beyond its maximum size and the entries older than its time to live.
+ *
+ * <p>Entries are keyed by lane and deadline bucket: the paths are fetched for the end of the
+ * bucket, and the paths of a specific deadline are the ones of its bucket that arrive before it.
+ * The paths are kept rather than the itineraries, as itineraries are entities once assigned to a
+ * cargo and can not be shared.
+ *
+ * <p>All the entries are invalidated when any voyage schedule changes, once the routing network of
+ * the path-finder follows the change. The hit, miss and eviction counters are exposed through JMX.
+ */
+@ApplicationScoped
+public class RouteCache implements RouteCacheMXBean {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+    public static final int DEADLINE_BUCKET_DAYS = 7;
+
+    private static final Logger LOGGER = Logger.getLogger(RouteCache.class.getName());
+    private static final String OBJECT_NAME = "org.eclipse.cargotracker:type=RouteCache";
+
+    private final int maximumSize;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final Map<Key, Entry> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    // Incremented on every invalidation, so that paths fetched before it are not cached after it.
+    private long generation;
+
+    private ObjectName objectName;
+
+    public RouteCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE, Clock.systemUTC());
+    }
+
+    public RouteCache(int maximumSize, Duration timeToLive, Clock clock) {
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.entries =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                        if (size() > RouteCache.this.maximumSize) {
+                            evictions++;
+                            return true;
+                        }
+                        return false;
+                    }
+                };
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            objectName = new ObjectName(OBJECT_NAME);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        } catch (JMException e) {
+            LOGGER.log(Level.WARNING, "Route cache statistics are not exposed: {0}", e.getMessage());
+            objectName = null;
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (JMException e) {
+                LOGGER.log(Level.FINE, "Route cache statistics already unregistered", e);
+            }
+        }
+    }
+
+    /**
+     * @return The cached paths, or null if there are none or they have expired.
+     */
+    @Nullable
+    public synchronized List<TransitPath> get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt().isBefore(clock.instant())) {
+            entries.remove(key);
+            evictions++;
+            entry = null;
+        }
+
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.paths();
+    }
+
+    /**
+     * @return The generation to pass to {@link #put} with the paths fetched from now on.
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Caches the paths, unless the schedules have changed since they were fetched.
+     */
+    public synchronized void put(Key key, List<TransitPath> paths, long fetchedGeneration) {
+        if (fetchedGeneration != generation) {
+            return;
+        }
+        entries.put(key, new Entry(List.copyOf(paths), clock.instant().plus(timeToLive)));
+    }
+
+    @Override
+    public synchronized void invalidateAll() {
+        entries.clear();
+        generation++;
+    }
+
+    /**
+     * Observes the change after {@link org.eclipse.pathfinder.internal.GraphDao} has patched the
+     * timetable, so that no path found on the previous timetable is cached after the invalidation.
+     */
+    public void onScheduleChanged(
+            @Observes @Priority(Interceptor.Priority.LIBRARY_AFTER) ScheduleChange change) {
+        LOGGER.log(
+                Level.FINE,
+                "Invalidating the cached routes, voyage {0} has changed",
+                change.voyageNumber());
+        invalidateAll();
+    }
+
+    @Override
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    @Override
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    @Override
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+    @Override
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Lane and deadline bucket of a route specification.
+     *
+     * @param deadlineBucket end of the bucket, the first day of the next one
+     */
+    public record Key(String originUnLocode, String destinationUnLocode, LocalDate deadlineBucket) {
+
+        public static Key of(RouteSpecification routeSpecification) {
+            long day = routeSpecification.arrivalDeadline().toEpochDay();
+            long bucket = Math.floorDiv(day + DEADLINE_BUCKET_DAYS - 1, DEADLINE_BUCKET_DAYS);
+            return new Key(
+                    routeSpecification.origin().getUnLocode().unlocode(),
+                    routeSpecification.destination().getUnLocode().unlocode(),
+                    LocalDate.ofEpochDay(bucket * DEADLINE_BUCKET_DAYS));
+        }
+    }
+
+    private record Entry(List<TransitPath> paths, Instant expiresAt) {
+    }
+}
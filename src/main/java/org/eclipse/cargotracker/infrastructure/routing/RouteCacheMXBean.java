@@ -0,0 +1,19 @@
+package org.eclipse.cargotracker.infrastructure.routing;
+
+/**
+ * Management view of the {@link RouteCache}, to size it against the observed hit ratio.
+ */
+public interface RouteCacheMXBean {
+
+    long getHitCount();
+
+    long getMissCount();
+
+    long getEvictionCount();
+
+    int getSize();
+
+    int getMaximumSize();
+
+    void invalidateAll();
+}
@@ -0,0 +1,55 @@
+package org.eclipse.cargotracker.infrastructure.routing;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.eclipse.cargotracker.domain.model.voyage.Voyage;
+import org.eclipse.cargotracker.infrastructure.events.cdi.ScheduleChanged;
+import org.eclipse.pathfinder.api.ScheduleChange;
+import org.eclipse.pathfinder.api.TransitEdge;
+
+import java.util.List;
+
+/**
+ * Translates the committed schedule changes of our voyages into the {@link ScheduleChange} of the
+ * path-finder, so that its routing network follows them without being rebuilt. A cancelled voyage
+ * is one whose schedule has no carrier movement left.
+ */
+@ApplicationScoped
+public class ScheduleChangeForwarder {
+
+    private Event<ScheduleChange> scheduleChanges;
+
+    // No-arg constructor required by CDI
+    public ScheduleChangeForwarder() {
+    }
+
+    @Inject
+    public ScheduleChangeForwarder(Event<ScheduleChange> scheduleChanges) {
+        this.scheduleChanges = scheduleChanges;
+    }
+
+    public void onScheduleChanged(
+            @Observes(during = TransactionPhase.AFTER_SUCCESS) @ScheduleChanged Voyage voyage) {
+        String voyageNumber = voyage.getVoyageNumber().number();
+        List<TransitEdge> movements =
+                voyage.getSchedule().carrierMovements().stream()
+                        .map(
+                                movement ->
+                                        new TransitEdge(
+                                                voyageNumber,
+                                                movement.getDepartureLocation()
+                                                        .getUnLocode()
+                                                        .unlocode(),
+                                                movement.getArrivalLocation()
+                                                        .getUnLocode()
+                                                        .unlocode(),
+                                                movement.getDepartureTime(),
+                                                movement.getArrivalTime()))
+                        .toList();
+
+        scheduleChanges.fire(new ScheduleChange(voyageNumber, movements));
+    }
+}
@@ -0,0 +1,55 @@
+package org.eclipse.cargotracker.infrastructure.routing.client;
+
+import jakarta.annotation.Nullable;
+import org.eclipse.pathfinder.api.RouteQuery;
+import org.eclipse.pathfinder.api.TransitPath;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * Transport to the path-finder, either over its REST API or in-process when it is deployed with
+ * the application. The one in use is picked by {@link GraphTraversalClientProducer}.
+ */
+public interface GraphTraversalClient {
+
+    /**
+     * @param deadline arrival deadline formatted as yyyy-MM-dd, the paths returned arrive before
+     *                 that day.
+     * @return The paths found, an empty list if no path reaches the destination in time.
+     */
+    List<TransitPath> findShortestPath(String origin, String destination, String deadline);
+
+    /**
+     * Variant of {@link #findShortestPath} which does not block the caller while searching.
+     */
+    CompletionStage<List<TransitPath>> findShortestPathAsync(
+            String origin, String destination, String deadline);
+
+    /**
+     * Streaming variant of {@link #findShortestPath}, handing every path to the consumer as soon
+     * as the path-finder has found it, rather than all of them once the search is over. Returns
+     * when the search is over.
+     *
+     * @param consumer called with every path found, on the calling thread
+     */
+    default void findShortestPath(
+            String origin, String destination, String deadline, Consumer<TransitPath> consumer) {
+        findShortestPath(origin, destination, deadline).forEach(consumer);
+    }
+
+    /**
+     * @return The paths found for every query, in the order of the queries.
+     */
+    List<List<TransitPath>> findShortestPaths(List<RouteQuery> queries);
+
+    /**
+     * @return The earliest arrival at every destination reachable from the origin, by UN location
+     * code, or null if the path-finder has not computed them yet.
+     */
+    @Nullable
+    Map<String, LocalDateTime> findEarliestArrivals(String origin);
+}
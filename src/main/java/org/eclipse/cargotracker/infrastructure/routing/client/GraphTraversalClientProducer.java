@@ -0,0 +1,43 @@
+package org.eclipse.cargotracker.infrastructure.routing.client;
+
+import jakarta.annotation.Resource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Picks the transport to the path-finder from the configuration: {@code local} when the
+ * path-finder is deployed with the application, {@code http} to reach it through the configured
+ * URL.
+ */
+@ApplicationScoped
+public class GraphTraversalClientProducer {
+
+    private static final Logger LOGGER =
+            Logger.getLogger(GraphTraversalClientProducer.class.getName());
+
+    @Resource(lookup = "java:app/configuration/GraphTraversalTransport")
+    private String transport;
+
+    @Produces
+    public GraphTraversalClient graphTraversalClient(
+            Instance<LocalGraphTraversalClient> localClient,
+            Instance<GraphTraversalResourceClient> resourceClient) {
+        Transport selected = Transport.valueOf(transport.strip().toUpperCase(Locale.ROOT));
+        LOGGER.log(Level.INFO, "Reaching the path-finder through the {0} transport", selected);
+
+        return switch (selected) {
+            case LOCAL -> localClient.get();
+            case HTTP -> resourceClient.get();
+        };
+    }
+
+    private enum Transport {
+        LOCAL,
+        HTTP
+    }
+}
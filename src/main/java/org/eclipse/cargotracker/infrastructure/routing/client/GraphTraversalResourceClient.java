@@ -1,41 +1,170 @@
 package org.eclipse.cargotracker.infrastructure.routing.client;
 
+import jakarta.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import jakarta.annotation.Resource;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Typed;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.ServiceUnavailableException;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.MediaType;
+import org.eclipse.pathfinder.api.GraphTraversalService;
+import org.eclipse.pathfinder.api.RouteQuery;
 import org.eclipse.pathfinder.api.TransitPath;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+/**
+ * Client of the path-finder REST API, for deployments where the path-finder runs apart from the
+ * application.
+ *
+ * <p>Calls time out after the configured connect and read timeouts, and at most the configured
+ * number of searches are in flight at once: beyond that, new searches fail fast with a {@link
+ * RejectedExecutionException} rather than queueing up behind a slow path-finder.
+ */
 @ApplicationScoped
-public class GraphTraversalResourceClient {
+@Typed(GraphTraversalResourceClient.class)
+public class GraphTraversalResourceClient implements GraphTraversalClient {
+    public static final int DEFAULT_CONNECT_TIMEOUT_MILLIS = 2_000;
+    public static final int DEFAULT_READ_TIMEOUT_MILLIS = 10_000;
+    public static final int DEFAULT_MAX_CONCURRENT_CALLS = 16;
+
     private static final Logger LOGGER =
             Logger.getLogger(GraphTraversalResourceClient.class.getName());
 
     @Resource(lookup = "java:app/configuration/GraphTraversalUrl")
     private String graphTraversalUrl;
 
+    @Resource(lookup = "java:app/configuration/GraphTraversalConnectTimeout")
+    private int connectTimeoutMillis = DEFAULT_CONNECT_TIMEOUT_MILLIS;
+
+    @Resource(lookup = "java:app/configuration/GraphTraversalReadTimeout")
+    private int readTimeoutMillis = DEFAULT_READ_TIMEOUT_MILLIS;
+
+    @Resource(lookup = "java:app/configuration/GraphTraversalMaxConcurrentCalls")
+    private int maxConcurrentCalls = DEFAULT_MAX_CONCURRENT_CALLS;
+
     private Client jaxrsClient = null;
+    private Jsonb jsonb = null;
+
+    // Requests in flight, by query.
+    private final ConcurrentMap<RouteQuery, CompletableFuture<List<TransitPath>>> inFlightCalls =
+            new ConcurrentHashMap<>();
+    // Permits taken by the requests in flight, bounded by maxConcurrentCalls.
+    private final AtomicInteger bulkhead = new AtomicInteger();
 
     @PostConstruct
     public void init() {
-        this.jaxrsClient = ClientBuilder.newClient();
+        this.jaxrsClient =
+                ClientBuilder.newBuilder()
+                        .connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS)
+                        .readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS)
+                        .build();
+        this.jsonb = JsonbBuilder.create();
     }
 
     @PreDestroy
     public void destroy() {
         this.jaxrsClient.close();
+        try {
+            this.jsonb.close();
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Unable to close JSON-B", e);
+        }
+    }
+
+    /**
+     * Blocking variant of {@link #findShortestPathAsync}.
+     *
+     * @param deadline arrival deadline formatted as yyyy-MM-dd, the paths returned arrive before
+     *                 that day.
+     * @return The paths found, an empty list if no path reaches the destination in time.
+     */
+    @Override
+    public List<TransitPath> findShortestPath(String origin, String destination, String deadline) {
+        return await(findShortestPathAsync(origin, destination, deadline).toCompletableFuture());
+    }
+
+    /**
+     * Concurrent calls for the same origin, destination and deadline share a single request to the
+     * path-finder and its result, so that bursts of identical lane queries, e.g. when rebooking
+     * after a disruption, cost one search. Every caller gets a stage of its own, completing or
+     * cancelling it leaves the shared request and the other callers alone.
+     *
+     * @param deadline arrival deadline formatted as yyyy-MM-dd, the paths returned arrive before
+     *                 that day.
+     * @return The paths found, completed by the client threads. Completes exceptionally with a
+     * {@link RejectedExecutionException} if too many searches are already in flight, or with a
+     * {@link jakarta.ws.rs.ProcessingException} if the path-finder does not answer in time.
+     */
+    @Override
+    public CompletionStage<List<TransitPath>> findShortestPathAsync(
+            String origin, String destination, String deadline) {
+        RouteQuery query = new RouteQuery(origin, destination, deadline);
+        CompletableFuture<List<TransitPath>> call = new CompletableFuture<>();
+        CompletableFuture<List<TransitPath>> inFlightCall = inFlightCalls.putIfAbsent(query, call);
+
+        if (inFlightCall != null) {
+            LOGGER.log(Level.FINE, "joining the in-flight request for {0}", query);
+            return inFlightCall.copy();
+        }
+
+        try {
+            acquirePermit(query);
+        } catch (RejectedExecutionException e) {
+            inFlightCalls.remove(query, call);
+            call.completeExceptionally(e);
+            return call;
+        }
+
+        CompletionStage<List<TransitPath>> fetched;
+        try {
+            fetched = fetchShortestPathAsync(query);
+        } catch (RuntimeException e) {
+            fetched = CompletableFuture.failedFuture(e);
+        }
+        fetched.whenComplete(
+                (paths, failure) -> {
+                    releasePermit();
+                    inFlightCalls.remove(query, call);
+                    if (failure == null) {
+                        call.complete(List.copyOf(paths));
+                    } else {
+                        call.completeExceptionally(unwrap(failure));
+                    }
+                });
+        return call.copy();
     }
 
-    public List<TransitPath> findShortestPath(String origin, String destination) {
+    CompletionStage<List<TransitPath>> fetchShortestPathAsync(RouteQuery query) {
         LOGGER.log(
                 Level.FINE,
                 "fetch the shortest paths from external resource: {0}",
@@ -43,10 +172,168 @@ public class GraphTraversalResourceClient {
         WebTarget graphTraversalResource = jaxrsClient.target(graphTraversalUrl);
         // @formatter:off
         return graphTraversalResource
-                .queryParam("origin", origin)
-                .queryParam("destination", destination)
+                .queryParam("origin", query.origin())
+                .queryParam("destination", query.destination())
+                .queryParam("deadline", query.deadline())
                 .request(MediaType.APPLICATION_JSON_TYPE)
+                .rx()
                 .get(new GenericType<>() {});
         // @formatter:on
     }
+
+    /**
+     * Asks the path-finder to stream the paths, one JSON document per line, and hands every path
+     * to the consumer as soon as its line is read. Counts against the searches in flight like the
+     * other calls, but is not shared with identical calls.
+     *
+     * @throws RejectedExecutionException if too many searches are already in flight
+     * @throws jakarta.ws.rs.ProcessingException if the path-finder does not answer in time
+     */
+    @Override
+    public void findShortestPath(
+            String origin, String destination, String deadline, Consumer<TransitPath> consumer) {
+        RouteQuery query = new RouteQuery(origin, destination, deadline);
+        acquirePermit(query);
+
+        try (BufferedReader reader =
+                     new BufferedReader(
+                             new InputStreamReader(
+                                     openShortestPathStream(query), StandardCharsets.UTF_8))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isBlank()) {
+                    consumer.accept(jsonb.fromJson(line, TransitPath.class));
+                }
+            }
+        } catch (IOException e) {
+            throw new ProcessingException(e);
+        } finally {
+            releasePermit();
+        }
+    }
+
+    InputStream openShortestPathStream(RouteQuery query) {
+        LOGGER.log(
+                Level.FINE,
+                "stream the shortest paths from external resource: {0}",
+                graphTraversalUrl);
+        // @formatter:off
+        return jaxrsClient
+                .target(graphTraversalUrl)
+                .queryParam("origin", query.origin())
+                .queryParam("destination", query.destination())
+                .queryParam("deadline", query.deadline())
+                .request(GraphTraversalService.APPLICATION_NDJSON)
+                .get(InputStream.class);
+        // @formatter:on
+    }
+
+    /**
+     * Takes one of the permits of the searches in flight, released with {@link #releasePermit()}.
+     *
+     * @throws RejectedExecutionException if all of them are taken
+     */
+    private void acquirePermit(Object request) {
+        if (bulkhead.incrementAndGet() > maxConcurrentCalls) {
+            bulkhead.decrementAndGet();
+            throw new RejectedExecutionException(
+                    "Too many path-finder requests in flight, rejecting " + request);
+        }
+    }
+
+    private void releasePermit() {
+        bulkhead.decrementAndGet();
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+    }
+
+    private static List<TransitPath> await(CompletableFuture<List<TransitPath>> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            // Blocking callers get the exception of the request.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Searches the paths of many route queries with one call per batch of at most {@value
+     * GraphTraversalService#MAX_BATCH_SIZE} queries, instead of one call per query. Every batch
+     * counts as one search in flight while it is posted.
+     *
+     * @return The paths found for every query, in the order of the queries.
+     * @throws RejectedExecutionException if too many searches are already in flight when a batch
+     *                                    is to be posted
+     * @throws jakarta.ws.rs.ProcessingException if the path-finder does not answer in time
+     */
+    @Override
+    public List<List<TransitPath>> findShortestPaths(List<RouteQuery> queries) {
+        List<List<TransitPath>> paths = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i += GraphTraversalService.MAX_BATCH_SIZE) {
+            List<RouteQuery> batch =
+                    queries.subList(
+                            i, Math.min(i + GraphTraversalService.MAX_BATCH_SIZE, queries.size()));
+            acquirePermit("a batch of " + batch.size() + " route queries");
+            try {
+                paths.addAll(postShortestPaths(batch));
+            } finally {
+                releasePermit();
+            }
+        }
+        return paths;
+    }
+
+    List<List<TransitPath>> postShortestPaths(List<RouteQuery> batch) {
+        // The batch resource is a sibling of the single path one.
+        URI batchUrl = URI.create(graphTraversalUrl.strip()).resolve("shortest-paths");
+        LOGGER.log(
+                Level.FINE,
+                "fetch the shortest paths of {0} route queries from external resource: {1}",
+                new Object[]{batch.size(), batchUrl});
+        // @formatter:off
+        return jaxrsClient
+                .target(batchUrl)
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .post(Entity.json(batch), new GenericType<List<List<TransitPath>>>() {});
+        // @formatter:on
+    }
+
+    /**
+     * Counts as one search in flight while it waits for the answer.
+     *
+     * @return The earliest arrival at every destination reachable from the origin, or null if the
+     * path-finder answers that it is still computing them.
+     * @throws RejectedExecutionException if too many searches are already in flight
+     */
+    @Nullable
+    @Override
+    public Map<String, LocalDateTime> findEarliestArrivals(String origin) {
+        // The reachability resource is a sibling of the single path one.
+        URI reachabilityUrl = URI.create(graphTraversalUrl.strip()).resolve("earliest-arrivals");
+        LOGGER.log(
+                Level.FINE,
+                "fetch the earliest arrivals from {0} from external resource: {1}",
+                new Object[]{origin, reachabilityUrl});
+
+        acquirePermit("the earliest arrivals from " + origin);
+        try {
+            // @formatter:off
+            return jaxrsClient
+                    .target(reachabilityUrl)
+                    .queryParam("origin", origin)
+                    .request(MediaType.APPLICATION_JSON_TYPE)
+                    .get(new GenericType<Map<String, LocalDateTime>>() {});
+            // @formatter:on
+        } catch (ServiceUnavailableException e) {
+            return null;
+        } finally {
+            releasePermit();
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package org.eclipse.cargotracker.infrastructure.routing.client;
+
+import jakarta.annotation.Nullable;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Inject;
+import org.eclipse.pathfinder.api.PathFinder;
+import org.eclipse.pathfinder.api.RouteQuery;
+import org.eclipse.pathfinder.api.SearchBudget;
+import org.eclipse.pathfinder.api.SearchMode;
+import org.eclipse.pathfinder.api.TransitPath;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * Calls the path-finder deployed in the same application directly, the paths are neither
+ * serialized nor sent over a socket.
+ */
+@ApplicationScoped
+@Typed(LocalGraphTraversalClient.class)
+public class LocalGraphTraversalClient implements GraphTraversalClient {
+
+    private PathFinder pathFinder;
+    private ManagedExecutorService executorService;
+
+    // No-arg constructor required by CDI
+    public LocalGraphTraversalClient() {
+    }
+
+    @Inject
+    public LocalGraphTraversalClient(
+            PathFinder pathFinder, ManagedExecutorService executorService) {
+        this.pathFinder = pathFinder;
+        this.executorService = executorService;
+    }
+
+    @Override
+    public List<TransitPath> findShortestPath(String origin, String destination, String deadline) {
+        return pathFinder.findShortestPath(origin, destination, deadline, SearchMode.PARETO);
+    }
+
+    @Override
+    public CompletionStage<List<TransitPath>> findShortestPathAsync(
+            String origin, String destination, String deadline) {
+        return CompletableFuture.supplyAsync(
+                () -> findShortestPath(origin, destination, deadline), executorService);
+    }
+
+    @Override
+    public void findShortestPath(
+            String origin, String destination, String deadline, Consumer<TransitPath> consumer) {
+        pathFinder.findShortestPath(
+                origin, destination, deadline, SearchMode.PARETO, SearchBudget.DEFAULT, consumer);
+    }
+
+    @Override
+    public List<List<TransitPath>> findShortestPaths(List<RouteQuery> queries) {
+        return pathFinder.findShortestPaths(queries, SearchMode.PARETO);
+    }
+
+    @Nullable
+    @Override
+    public Map<String, LocalDateTime> findEarliestArrivals(String origin) {
+        return pathFinder.findEarliestArrivals(origin);
+    }
+}
@@ -1,12 +1,17 @@
 package org.eclipse.cargotracker.interfaces.booking.facade;
 
+import jakarta.annotation.Nullable;
 import org.eclipse.cargotracker.interfaces.booking.facade.dto.CargoRouteDto;
 import org.eclipse.cargotracker.interfaces.booking.facade.dto.CargoStatusDto;
+import org.eclipse.cargotracker.interfaces.booking.facade.dto.CargoSummaryDto;
 import org.eclipse.cargotracker.interfaces.booking.facade.dto.LocationDto;
 import org.eclipse.cargotracker.interfaces.booking.facade.dto.RouteCandidateDto;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 /**
  * This facade shields the domain layer - model, services, repositories - from concerns about such
@@ -28,9 +33,37 @@ public interface BookingServiceFacade {
 
     List<RouteCandidateDto> requestPossibleRoutesForCargo(String trackingId);
 
+    CompletionStage<List<RouteCandidateDto>> requestPossibleRoutesForCargoAsync(String trackingId);
+
+    /**
+     * @param consumer called with every route candidate as soon as it is found, possibly from
+     *                 another thread
+     * @return Completed once all the route candidates are found.
+     */
+    CompletionStage<Void> requestPossibleRoutesForCargoAsync(
+            String trackingId, Consumer<RouteCandidateDto> consumer);
+
     List<LocationDto> listShippingLocations();
 
-    List<CargoRouteDto> listAllCargos();
+    /**
+     * @return The shipping locations a cargo from the origin can be routed to, or all the other
+     * locations if they are not known yet.
+     */
+    List<LocationDto> listShippingDestinations(String origin);
+
+    /**
+     * @return The earliest a cargo booked now can arrive at the destination, or null if it is not
+     * known.
+     */
+    @Nullable
+    LocalDateTime findEarliestArrival(String origin, String destination);
+
+    /**
+     * @param after last tracking ID of the previous page, or null for the first page
+     * @param limit maximum number of cargos in the page
+     * @return The cargos, ordered by tracking ID.
+     */
+    List<CargoSummaryDto> listCargos(@Nullable String after, int limit);
 
     List<String> listAllTrackingIds();
 }
@@ -0,0 +1,18 @@
+package org.eclipse.cargotracker.interfaces.booking.facade.dto;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for listing cargos, without their legs.
+ */
+public record CargoSummaryDto(
+        String trackingId,
+        LocationDto origin,
+        LocationDto finalDestination,
+        LocalDate arrivalDeadline,
+        boolean routed,
+        boolean misrouted,
+        boolean claimed,
+        LocationDto lastKnownLocation,
+        String transportStatus) {
+}
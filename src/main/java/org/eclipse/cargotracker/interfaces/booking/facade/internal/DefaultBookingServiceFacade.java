@@ -1,11 +1,13 @@
 package org.eclipse.cargotracker.interfaces.booking.facade.internal;
 
+import jakarta.annotation.Nullable;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import org.eclipse.cargotracker.application.BookingService;
 import org.eclipse.cargotracker.domain.model.cargo.Cargo;
 import org.eclipse.cargotracker.domain.model.cargo.CargoRepository;
+import org.eclipse.cargotracker.domain.model.cargo.CargoSummaryRepository;
 import org.eclipse.cargotracker.domain.model.cargo.Itinerary;
 import org.eclipse.cargotracker.domain.model.cargo.TrackingId;
 import org.eclipse.cargotracker.domain.model.handling.HandlingEvent;
@@ -14,19 +16,26 @@ import org.eclipse.cargotracker.domain.model.location.Location;
 import org.eclipse.cargotracker.domain.model.location.LocationRepository;
 import org.eclipse.cargotracker.domain.model.location.UnLocode;
 import org.eclipse.cargotracker.domain.model.voyage.VoyageRepository;
+import org.eclipse.cargotracker.domain.service.RoutingService;
 import org.eclipse.cargotracker.interfaces.booking.facade.BookingServiceFacade;
 import org.eclipse.cargotracker.interfaces.booking.facade.dto.CargoRouteDto;
 import org.eclipse.cargotracker.interfaces.booking.facade.dto.CargoStatusDto;
+import org.eclipse.cargotracker.interfaces.booking.facade.dto.CargoSummaryDto;
 import org.eclipse.cargotracker.interfaces.booking.facade.dto.LocationDto;
 import org.eclipse.cargotracker.interfaces.booking.facade.dto.RouteCandidateDto;
 import org.eclipse.cargotracker.interfaces.booking.facade.internal.assembler.CargoRouteDtoAssembler;
 import org.eclipse.cargotracker.interfaces.booking.facade.internal.assembler.CargoStatusDtoAssembler;
+import org.eclipse.cargotracker.interfaces.booking.facade.internal.assembler.CargoSummaryDtoAssembler;
 import org.eclipse.cargotracker.interfaces.booking.facade.internal.assembler.ItineraryCandidateDtoAssembler;
 import org.eclipse.cargotracker.interfaces.booking.facade.internal.assembler.LocationDtoAssembler;
 
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 @ApplicationScoped
 @Transactional
@@ -43,12 +52,18 @@ public class DefaultBookingServiceFacade implements BookingServiceFacade, Serial
     @Inject
     private CargoRepository cargoRepository;
 
+    @Inject
+    private CargoSummaryRepository cargoSummaryRepository;
+
     @Inject
     private VoyageRepository voyageRepository;
 
     @Inject
     private HandlingEventRepository handlingEventRepository;
 
+    @Inject
+    private RoutingService routingService;
+
     @Override
     public List<LocationDto> listShippingLocations() {
         List<Location> allLocations = locationRepository.findAll();
@@ -56,6 +71,32 @@ public class DefaultBookingServiceFacade implements BookingServiceFacade, Serial
         return assembler.toDtoList(allLocations);
     }
 
+    @Override
+    public List<LocationDto> listShippingDestinations(String origin) {
+        UnLocode originUnLocode = new UnLocode(origin);
+        Map<UnLocode, LocalDateTime> earliestArrivals =
+                routingService.fetchEarliestArrivals(originUnLocode);
+
+        List<Location> destinations =
+                locationRepository.findAll().stream()
+                        .filter(location -> !location.getUnLocode().equals(originUnLocode))
+                        .filter(
+                                location ->
+                                        earliestArrivals == null
+                                                || earliestArrivals.containsKey(
+                                                        location.getUnLocode()))
+                        .toList();
+        return new LocationDtoAssembler().toDtoList(destinations);
+    }
+
+    @Nullable
+    @Override
+    public LocalDateTime findEarliestArrival(String origin, String destination) {
+        Map<UnLocode, LocalDateTime> earliestArrivals =
+                routingService.fetchEarliestArrivals(new UnLocode(origin));
+        return earliestArrivals == null ? null : earliestArrivals.get(new UnLocode(destination));
+    }
+
     @Override
     public String bookNewCargo(String origin, String destination, LocalDate arrivalDeadline) {
         TrackingId trackingId = bookingService.bookNewCargo(
@@ -94,21 +135,18 @@ public class DefaultBookingServiceFacade implements BookingServiceFacade, Serial
     }
 
     @Override
-    public List<CargoRouteDto> listAllCargos() {
-        List<Cargo> cargos = cargoRepository.findAll();
-
-        CargoRouteDtoAssembler assembler = new CargoRouteDtoAssembler();
-
-        return cargos.stream().map(assembler::toDto).toList();
+    public List<CargoSummaryDto> listCargos(@Nullable String after, int limit) {
+        CargoSummaryDtoAssembler assembler = new CargoSummaryDtoAssembler();
+        return cargoSummaryRepository
+                .findAll(after == null ? null : new TrackingId(after), limit)
+                .stream()
+                .map(assembler::toDto)
+                .toList();
     }
 
     @Override
     public List<String> listAllTrackingIds() {
-
-        return cargoRepository
-                .findAll().stream()
-                .map(cargo -> cargo.getTrackingId().id())
-                .toList();
+        return cargoSummaryRepository.findAllTrackingIds().stream().map(TrackingId::id).toList();
     }
 
     @Override
@@ -138,4 +176,24 @@ public class DefaultBookingServiceFacade implements BookingServiceFacade, Serial
 
         return itineraries.stream().map(dtoAssembler::toDto).toList();
     }
+
+    @Override
+    public CompletionStage<List<RouteCandidateDto>> requestPossibleRoutesForCargoAsync(
+            String trackingId) {
+        ItineraryCandidateDtoAssembler dtoAssembler = new ItineraryCandidateDtoAssembler();
+
+        return bookingService
+                .requestPossibleRoutesForCargoAsync(new TrackingId(trackingId))
+                .thenApply(itineraries -> itineraries.stream().map(dtoAssembler::toDto).toList());
+    }
+
+    @Override
+    public CompletionStage<Void> requestPossibleRoutesForCargoAsync(
+            String trackingId, Consumer<RouteCandidateDto> consumer) {
+        ItineraryCandidateDtoAssembler dtoAssembler = new ItineraryCandidateDtoAssembler();
+
+        return bookingService.requestPossibleRoutesForCargoAsync(
+                new TrackingId(trackingId),
+                itinerary -> consumer.accept(dtoAssembler.toDto(itinerary)));
+    }
 }
@@ -0,0 +1,27 @@
+package org.eclipse.cargotracker.interfaces.booking.facade.internal.assembler;
+
+import org.eclipse.cargotracker.domain.model.cargo.CargoSummary;
+import org.eclipse.cargotracker.domain.model.location.Location;
+import org.eclipse.cargotracker.interfaces.booking.facade.dto.CargoSummaryDto;
+import org.eclipse.cargotracker.interfaces.booking.facade.dto.LocationDto;
+
+public class CargoSummaryDtoAssembler {
+    LocationDtoAssembler locationDtoAssembler = new LocationDtoAssembler();
+
+    public CargoSummaryDto toDto(CargoSummary summary) {
+        return new CargoSummaryDto(
+                summary.trackingId(),
+                new LocationDto(summary.originUnLocode(), summary.originName()),
+                new LocationDto(summary.destinationUnLocode(), summary.destinationName()),
+                summary.arrivalDeadline(),
+                summary.isRouted(),
+                summary.isMisrouted(),
+                summary.isClaimed(),
+                summary.lastKnownLocationUnLocode() == null
+                        ? locationDtoAssembler.toDto(Location.UNKNOWN)
+                        : new LocationDto(
+                                summary.lastKnownLocationUnLocode(),
+                                summary.lastKnownLocationName()),
+                summary.transportStatus().name());
+    }
+}
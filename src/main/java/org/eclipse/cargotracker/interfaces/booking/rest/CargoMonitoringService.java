@@ -3,15 +3,16 @@ package org.eclipse.cargotracker.interfaces.booking.rest;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.json.Json;
-import jakarta.json.JsonArray;
-import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonGenerator;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
-import org.eclipse.cargotracker.domain.model.cargo.Cargo;
-import org.eclipse.cargotracker.domain.model.cargo.CargoRepository;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.cargotracker.domain.model.cargo.CargoSummary;
+import org.eclipse.cargotracker.domain.model.cargo.CargoSummaryRepository;
+import org.eclipse.cargotracker.domain.model.cargo.TrackingId;
 
 import java.util.List;
 
@@ -19,48 +20,57 @@ import java.util.List;
 @Path("/cargo")
 public class CargoMonitoringService {
 
-    private CargoRepository cargoRepository;
+    // Summaries read at once, each page in a transaction of its own.
+    private static final int PAGE_SIZE = 500;
+
+    private CargoSummaryRepository cargoSummaryRepository;
 
     // No-arg constructor required by CDI
     public CargoMonitoringService() {
     }
 
     @Inject
-    public CargoMonitoringService(CargoRepository cargoRepository) {
-        this.cargoRepository = cargoRepository;
+    public CargoMonitoringService(CargoSummaryRepository cargoSummaryRepository) {
+        this.cargoSummaryRepository = cargoSummaryRepository;
     }
 
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public JsonArray getAllCargo() {
-        List<Cargo> cargos = cargoRepository.findAll();
-
-        JsonArrayBuilder builder = Json.createArrayBuilder();
+    public StreamingOutput getAllCargo() {
+        // The array is written page by page, the cargos are never all in memory at once.
+        return output -> {
+            try (JsonGenerator generator = Json.createGenerator(output)) {
+                generator.writeStartArray();
 
-        cargos.stream().map(this::cargoToJson).forEach(builder::add);
+                TrackingId after = null;
+                List<CargoSummary> page;
+                do {
+                    page = cargoSummaryRepository.findAll(after, PAGE_SIZE);
+                    for (CargoSummary cargo : page) {
+                        generator.write(cargoToJson(cargo).build());
+                    }
+                    if (!page.isEmpty()) {
+                        after = new TrackingId(page.getLast().trackingId());
+                    }
+                } while (page.size() == PAGE_SIZE);
 
-        return builder.build();
+                generator.writeEnd();
+            }
+        };
     }
 
-    private JsonObjectBuilder cargoToJson(Cargo cargo) {
+    private JsonObjectBuilder cargoToJson(CargoSummary cargo) {
         return Json.createObjectBuilder()
-                .add("trackingId", cargo.getTrackingId().id())
-                .add("routingStatus", cargo.getDelivery().routingStatus().toString())
-                .add("misdirected", cargo.getDelivery().misdirected())
-                .add("transportStatus", cargo.getDelivery().transportStatus().toString())
-                .add("atDestination", cargo.getDelivery().unloadedAtDestination())
-                .add("origin", cargo.getOrigin().getUnLocode().unlocode())
+                .add("trackingId", cargo.trackingId())
+                .add("routingStatus", cargo.routingStatus().toString())
+                .add("misdirected", cargo.misdirected())
+                .add("transportStatus", cargo.transportStatus().toString())
+                .add("atDestination", cargo.unloadedAtDestination())
+                .add("origin", cargo.originUnLocode())
                 .add(
                         "lastKnownLocation",
-                        cargo.getDelivery()
-                                .lastKnownLocation()
-                                .getUnLocode()
-                                .unlocode()
-                                .equals("XXXXX")
+                        cargo.lastKnownLocationUnLocode() == null
                                 ? "Unknown"
-                                : cargo.getDelivery()
-                                .lastKnownLocation()
-                                .getUnLocode()
-                                .unlocode());
+                                : cargo.lastKnownLocationUnLocode());
     }
-}
\ No newline at end of file
+}
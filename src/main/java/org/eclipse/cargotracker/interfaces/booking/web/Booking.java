@@ -12,6 +12,7 @@ import org.omnifaces.util.Messages;
 
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 
@@ -25,6 +26,7 @@ public class Booking implements Serializable {
 
     private LocalDate today = null;
     private List<LocationDto> locations;
+    private List<LocationDto> destinations;
 
     private String originUnlocode;
     private String originName;
@@ -32,6 +34,8 @@ public class Booking implements Serializable {
     private String destinationUnlocode;
     private LocalDate arrivalDeadline;
     private long duration = -1;
+    // Null if unknown, the deadline is then checked when routing.
+    private LocalDateTime earliestArrival;
 
     @Inject
     private BookingServiceFacade bookingServiceFacade;
@@ -46,6 +50,7 @@ public class Booking implements Serializable {
     public void init() {
         today = LocalDate.now();
         locations = bookingServiceFacade.listShippingLocations();
+        destinations = locations;
     }
 
     public void startConversation() {
@@ -58,6 +63,13 @@ public class Booking implements Serializable {
         return locations;
     }
 
+    /**
+     * @return The locations reachable from the selected origin.
+     */
+    public List<LocationDto> getDestinations() {
+        return destinations;
+    }
+
     public String getOriginUnlocode() {
         return originUnlocode;
     }
@@ -69,6 +81,7 @@ public class Booking implements Serializable {
                 this.originName = location.name();
             }
         }
+        this.destinations = bookingServiceFacade.listShippingDestinations(originUnlocode);
     }
 
     public String getOriginName() {
@@ -86,6 +99,12 @@ public class Booking implements Serializable {
                 destinationName = location.name();
             }
         }
+        // The origin is set first, it comes first in the form.
+        this.earliestArrival =
+                originUnlocode == null
+                        ? null
+                        : bookingServiceFacade.findEarliestArrival(
+                                originUnlocode, destinationUnlocode);
     }
 
     public String getDestinationName() {
@@ -96,6 +115,18 @@ public class Booking implements Serializable {
         return today;
     }
 
+    /**
+     * @return The earliest deadline that can be met, the day after the earliest arrival at the
+     * destination.
+     */
+    public LocalDate getEarliestDeadline() {
+        LocalDate earliestDeadline = today.plusDays(MIN_JOURNEY_DURATION);
+        if (earliestArrival != null && earliestArrival.toLocalDate().isAfter(today)) {
+            earliestDeadline = earliestArrival.toLocalDate().plusDays(1);
+        }
+        return earliestDeadline;
+    }
+
     public LocalDate getArrivalDeadline() {
         return arrivalDeadline;
     }
@@ -118,6 +149,13 @@ public class Booking implements Serializable {
             Messages.addGlobalError("Journey duration must be at least 1 day.");
             return null;
         }
+        if (earliestArrival != null && !earliestArrival.toLocalDate().isBefore(arrivalDeadline)) {
+            Messages.addGlobalError(
+                    "No route reaches {0} before that deadline, the earliest arrival is on {1}.",
+                    destinationName,
+                    earliestArrival.toLocalDate());
+            return null;
+        }
         return "/admin/booking/confirm.xhtml";
     }
 
@@ -9,6 +9,9 @@ import org.eclipse.cargotracker.interfaces.booking.facade.dto.RouteCandidateDto;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Handles itinerary selection. Operates against a dedicated service facade, and could easily be
@@ -25,7 +28,9 @@ import java.util.List;
 public class ItinerarySelection implements Serializable {
 
     private static final long serialVersionUID = 1L;
-    List<RouteCandidateDto> routeCandidates;
+    // Added to by the search as the routes are found, while the page shows them.
+    final List<RouteCandidateDto> routeCandidates = new CopyOnWriteArrayList<>();
+    private transient CompletableFuture<Void> search;
     private String trackingId;
     private CargoRouteDto cargo;
     @Inject
@@ -51,9 +56,39 @@ public class ItinerarySelection implements Serializable {
         return routeCandidates;
     }
 
+    /**
+     * @return True while more routes may be found.
+     */
+    public boolean isSearching() {
+        return search != null && !search.isDone();
+    }
+
     public void load() {
+        // The routes are searched while the cargo is loaded, and shown as soon as they are found.
+        routeCandidates.clear();
+        search =
+                bookingServiceFacade
+                        .requestPossibleRoutesForCargoAsync(trackingId, routeCandidates::add)
+                        .toCompletableFuture();
         cargo = bookingServiceFacade.loadCargoForRouting(trackingId);
-        routeCandidates = bookingServiceFacade.requestPossibleRoutesForCargo(trackingId);
+        refresh();
+    }
+
+    /**
+     * Polled by the page while searching, fails if the search did.
+     */
+    public void refresh() {
+        if (search == null || !search.isCompletedExceptionally()) {
+            return;
+        }
+        try {
+            search.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     public String assignItinerary(int routeIndex) {
@@ -1,11 +1,11 @@
 package org.eclipse.cargotracker.interfaces.booking.web;
 
-import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Nullable;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.eclipse.cargotracker.interfaces.booking.facade.BookingServiceFacade;
-import org.eclipse.cargotracker.interfaces.booking.facade.dto.CargoRouteDto;
+import org.eclipse.cargotracker.interfaces.booking.facade.dto.CargoSummaryDto;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,38 +19,72 @@ import java.util.List;
  * this approach is generally preferred to the one taken in the tracking controller. However, there
  * is never any one perfect solution for all situations, so we've chosen to demonstrate two
  * polarized ways to build user interfaces.
+ *
+ * <p>Cargos are listed a page at a time, ordered by tracking ID, the next page starting after the
+ * last tracking ID of the current one.
  */
 @Named
 @RequestScoped
 public class ListCargo {
 
-    private List<CargoRouteDto> cargos;
-    private List<CargoRouteDto> routedCargos;
-    private List<CargoRouteDto> notRoutedCargos;
-    private List<CargoRouteDto> claimedCargos;
-    private List<CargoRouteDto> routedUnclaimedCargos;
+    private static final int PAGE_SIZE = 100;
+
+    @Nullable
+    private String after;
+    private boolean lastPage;
+    private List<CargoSummaryDto> cargos;
+    private List<CargoSummaryDto> routedCargos;
+    private List<CargoSummaryDto> notRoutedCargos;
+    private List<CargoSummaryDto> claimedCargos;
+    private List<CargoSummaryDto> routedUnclaimedCargos;
 
     @Inject
     private BookingServiceFacade bookingServiceFacade;
 
-    public List<CargoRouteDto> getCargos() {
+    @Nullable
+    public String getAfter() {
+        return after;
+    }
+
+    public void setAfter(@Nullable String after) {
+        this.after = after == null || after.isBlank() ? null : after;
+    }
+
+    public boolean isFirstPage() {
+        return after == null;
+    }
+
+    public boolean isLastPage() {
+        return lastPage;
+    }
+
+    /**
+     * @return The tracking ID the next page starts after.
+     */
+    public String getLastTrackingId() {
+        return cargos.getLast().trackingId();
+    }
+
+    public List<CargoSummaryDto> getCargos() {
         return cargos;
     }
 
-    @PostConstruct
-    public void init() {
-        cargos = bookingServiceFacade.listAllCargos();
+    public void load() {
+        // One more than shown, to know if there is a next page.
+        List<CargoSummaryDto> page = bookingServiceFacade.listCargos(after, PAGE_SIZE + 1);
+        lastPage = page.size() <= PAGE_SIZE;
+        cargos = lastPage ? page : page.subList(0, PAGE_SIZE);
     }
 
-    public List<CargoRouteDto> getRoutedCargos() {
+    public List<CargoSummaryDto> getRoutedCargos() {
         routedCargos = new ArrayList<>();
 
-        cargos.stream().filter(CargoRouteDto::routed).forEach(route -> routedCargos.add(route));
+        cargos.stream().filter(CargoSummaryDto::routed).forEach(route -> routedCargos.add(route));
 
         return routedCargos;
     }
 
-    public List<CargoRouteDto> getRoutedUnclaimedCargos() {
+    public List<CargoSummaryDto> getRoutedUnclaimedCargos() {
         routedUnclaimedCargos = new ArrayList<>();
         cargos.stream()
                 .filter(route -> route.routed() && !route.claimed())
@@ -59,15 +93,15 @@ public class ListCargo {
         return routedUnclaimedCargos;
     }
 
-    public List<CargoRouteDto> getClaimedCargos() {
+    public List<CargoSummaryDto> getClaimedCargos() {
         claimedCargos = new ArrayList<>();
 
-        cargos.stream().filter(CargoRouteDto::claimed).forEach(route -> claimedCargos.add(route));
+        cargos.stream().filter(CargoSummaryDto::claimed).forEach(route -> claimedCargos.add(route));
 
         return claimedCargos;
     }
 
-    public List<CargoRouteDto> getNotRoutedCargos() {
+    public List<CargoSummaryDto> getNotRoutedCargos() {
         notRoutedCargos = new ArrayList<>();
         cargos.stream()
                 .filter(route -> !route.routed())
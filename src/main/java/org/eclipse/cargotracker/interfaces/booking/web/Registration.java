@@ -11,6 +11,8 @@ import org.eclipse.cargotracker.interfaces.booking.facade.BookingServiceFacade;
 import org.eclipse.cargotracker.interfaces.booking.facade.dto.LocationDto;
 
 import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -73,21 +75,33 @@ public class Registration implements Serializable {
     }
 
     public String register() {
-        String trackingId = null;
-
-        if (!originUnlocode.equals(destinationUnlocode)) {
-            trackingId =
-                    bookingServiceFacade.bookNewCargo(
-                            originUnlocode, destinationUnlocode, DateUtil.toDate(arrivalDeadline));
-        } else {
-            // TODO [Jakarta EE 8] See if this can be injected.
-            FacesContext context = FacesContext.getCurrentInstance();
-            FacesMessage message = new FacesMessage("Origin and destination cannot be the same.");
-            message.setSeverity(FacesMessage.SEVERITY_ERROR);
-            context.addMessage(null, message);
+        if (originUnlocode.equals(destinationUnlocode)) {
+            addErrorMessage("Origin and destination cannot be the same.");
             return null;
         }
 
+        LocalDate deadline = DateUtil.toDate(arrivalDeadline);
+        LocalDateTime earliestArrival =
+                bookingServiceFacade.findEarliestArrival(originUnlocode, destinationUnlocode);
+        if (earliestArrival != null && !earliestArrival.toLocalDate().isBefore(deadline)) {
+            addErrorMessage(
+                    "No route arrives before that deadline, the earliest arrival is on "
+                            + earliestArrival.toLocalDate()
+                            + ".");
+            return null;
+        }
+
+        String trackingId =
+                bookingServiceFacade.bookNewCargo(originUnlocode, destinationUnlocode, deadline);
+
         return "show.xhtml?faces-redirect=true&trackingId=" + trackingId;
     }
+
+    private void addErrorMessage(String summary) {
+        // TODO [Jakarta EE 8] See if this can be injected.
+        FacesContext context = FacesContext.getCurrentInstance();
+        FacesMessage message = new FacesMessage(summary);
+        message.setSeverity(FacesMessage.SEVERITY_ERROR);
+        context.addMessage(null, message);
+    }
 }
@@ -25,6 +25,7 @@ import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Named
 @ViewScoped
@@ -116,16 +117,16 @@ public class EventLogger implements Serializable {
 
     @Transactional
     public void init() {
-        List<Cargo> cargos = cargoRepository.findAll();
-
-        trackingIds = new ArrayList<>(cargos.size());
-        for (Cargo cargo : cargos) {
-            // List only routed cargo that is not claimed yet.
-            if (!cargo.getItinerary().legs().isEmpty()
-                    && !(cargo.getDelivery().transportStatus().sameValueAs(TransportStatus.CLAIMED))) {
-                String trackingId = cargo.getTrackingId().id();
-                trackingIds.add(new SelectItem(trackingId, trackingId));
-            }
+        trackingIds = new ArrayList<>();
+        try (Stream<Cargo> cargos = cargoRepository.streamAll()) {
+            cargos.forEach(cargo -> {
+                // List only routed cargo that is not claimed yet.
+                if (!cargo.getItinerary().legs().isEmpty()
+                        && !(cargo.getDelivery().transportStatus().sameValueAs(TransportStatus.CLAIMED))) {
+                    String trackingId = cargo.getTrackingId().id();
+                    trackingIds.add(new SelectItem(trackingId, trackingId));
+                }
+            });
         }
 
         List<Location> locations = locationRepository.findAll();
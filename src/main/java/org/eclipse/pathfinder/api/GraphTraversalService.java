@@ -2,44 +2,147 @@ package org.eclipse.pathfinder.api;
 
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.BeanParam;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.GenericEntity;
 import jakarta.ws.rs.core.MediaType;
-import org.eclipse.pathfinder.internal.GraphDao;
-
-import java.security.SecureRandom;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 @RequestScoped
 @Path("/graph-traversal")
 public class GraphTraversalService {
-    private static final long ONE_MIN_MS = 1000L * 60;
-    private static final long ONE_DAY_MS = ONE_MIN_MS * 60 * 24;
-    private final SecureRandom random = new SecureRandom();
 
-    private GraphDao dao;
+    /**
+     * Maximum number of route queries of a batch.
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * Response header telling whether the search ended within its budget.
+     */
+    public static final String SEARCH_COMPLETE_HEADER = "Search-Complete";
+
+    /**
+     * Media type of the streamed paths, one JSON document per line.
+     */
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private static final Jsonb JSONB = JsonbBuilder.create();
+
+    private static final long REACHABILITY_RETRY_AFTER_SECONDS = 5;
+
+    private PathFinder pathFinder;
 
     // No-arg constructor required by CDI
     public GraphTraversalService() {
     }
 
     @Inject
-    public GraphTraversalService(GraphDao dao) {
-        this.dao = dao;
+    public GraphTraversalService(PathFinder pathFinder) {
+        this.pathFinder = pathFinder;
     }
 
+    /**
+     * Every search is bounded by a budget of expansions and time, which requests may only lower.
+     * A search running out of budget returns the paths found so far, with the {@value
+     * #SEARCH_COMPLETE_HEADER} header set to false as better paths may exist.
+     */
     @GET
     @Path("/shortest-path")
     @Produces(MediaType.APPLICATION_JSON)
-    public List<TransitPath> findShortestPath(
+    public Response findShortestPath(@Valid @BeanParam ShortestPathQuery query) {
+        SearchResult result;
+        try {
+            result =
+                    pathFinder.findShortestPath(
+                            query.getOriginUnLocode(),
+                            query.getDestinationUnLocode(),
+                            query.getDeadline(),
+                            query.getMode(),
+                            query.getBudget());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+
+        return Response.ok(new GenericEntity<>(result.paths()) {})
+                .header(SEARCH_COMPLETE_HEADER, result.complete())
+                .build();
+    }
+
+    /**
+     * Streaming variant of {@link #findShortestPath}, writing every path on a line of its own as
+     * soon as the search has settled it, so that clients can use the first paths while the search
+     * goes on. The response starts before the search ends, it has no {@value
+     * #SEARCH_COMPLETE_HEADER} header.
+     */
+    @GET
+    @Path("/shortest-path")
+    @Produces(APPLICATION_NDJSON)
+    public StreamingOutput streamShortestPath(@Valid @BeanParam ShortestPathQuery query) {
+        // Once the paths are streamed, it is too late to answer with a bad request.
+        try {
+            PathFinder.toArrivalDeadline(query.getDeadline());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+
+        return output -> {
+            Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+            pathFinder.findShortestPath(
+                    query.getOriginUnLocode(),
+                    query.getDestinationUnLocode(),
+                    query.getDeadline(),
+                    query.getMode(),
+                    query.getBudget(),
+                    path -> {
+                        try {
+                            writer.write(JSONB.toJson(path));
+                            writer.write('\n');
+                            writer.flush();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        };
+    }
+
+    /**
+     * The reachable destinations and their earliest arrivals are looked up in a matrix precomputed
+     * in the background, answering at once. While it is computed, e.g. right after startup or a
+     * schedule change, the service is unavailable for a few seconds.
+     *
+     * @return The earliest arrival at every destination reachable from the origin, by UN location
+     * code.
+     */
+    @GET
+    @Path("/earliest-arrivals")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Map<String, LocalDateTime> findEarliestArrivals(
             @NotBlank(message = "Missing origin UN location code.")
             @Size(
                     min = 5,
@@ -47,94 +150,41 @@ public class GraphTraversalService {
                     message = "Origin UN location code value must be five characters long."
             )
             @QueryParam("origin")
-            String originUnLocode,
-
-            @NotBlank(message = "Missing destination UN location code.")
-            @Size(
-                    min = 5,
-                    max = 5,
-                    message = "Destination UN location code value must be five characters long."
-            )
-            @QueryParam("destination")
-            String destinationUnLocode,
+            String originUnLocode) {
+        Map<String, LocalDateTime> earliestArrivals =
+                pathFinder.findEarliestArrivals(originUnLocode);
+        if (earliestArrivals == null) {
+            throw new ServiceUnavailableException(
+                    "Reachability is being computed.", REACHABILITY_RETRY_AFTER_SECONDS);
+        }
+        return earliestArrivals;
+    }
 
+    /**
+     * Batch variant of {@link #findShortestPath}, the queries are searched in parallel.
+     *
+     * @return The paths found for every query, in the order of the queries.
+     */
+    @POST
+    @Path("/shortest-paths")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public List<List<TransitPath>> findShortestPaths(
+            @NotEmpty(message = "Missing route queries.")
             @Size(
-                    min = 8,
-                    max = 10,
-                    message = "Deadline value must be between eight and ten characters long."
+                    max = MAX_BATCH_SIZE,
+                    message = "No more than 1000 route queries can be searched at once."
             )
-            @QueryParam("deadline")
-            String deadline) {
-        LocalDateTime date = nextDate(LocalDateTime.now());
-
-        List<String> allVertices = new ArrayList<>(dao.listLocations());
-        allVertices.remove(originUnLocode);
-        allVertices.remove(destinationUnLocode);
-
-        int candidateCount = getRandomNumberOfCandidates();
-        List<TransitPath> candidates = new ArrayList<>(candidateCount);
-
-        for (int i = 0; i < candidateCount; i++) {
-            allVertices = getRandomChunkOfLocations(allVertices);
-            List<TransitEdge> transitEdges = new ArrayList<>(allVertices.size() - 1);
-            String firstLegTo = allVertices.getFirst();
-
-            LocalDateTime fromDate = nextDate(date);
-            LocalDateTime toDate = nextDate(fromDate);
-            date = nextDate(toDate);
-
-            transitEdges.add(
-                    new TransitEdge(
-                            dao.getVoyageNumber(originUnLocode, firstLegTo),
-                            originUnLocode,
-                            firstLegTo,
-                            fromDate,
-                            toDate));
-
-            for (int j = 0; j < allVertices.size() - 1; j++) {
-                String current = allVertices.get(j);
-                String next = allVertices.get(j + 1);
-                fromDate = nextDate(date);
-                toDate = nextDate(fromDate);
-                date = nextDate(toDate);
-                transitEdges.add(
-                        new TransitEdge(
-                                dao.getVoyageNumber(current, next),
-                                current,
-                                next,
-                                fromDate,
-                                toDate));
-            }
-
-            String lastLegFrom = allVertices.getLast();
-            fromDate = nextDate(date);
-            toDate = nextDate(fromDate);
-            transitEdges.add(
-                    new TransitEdge(
-                            dao.getVoyageNumber(lastLegFrom, destinationUnLocode),
-                            lastLegFrom,
-                            destinationUnLocode,
-                            fromDate,
-                            toDate));
-
-            candidates.add(new TransitPath(transitEdges));
+            List<@NotNull @Valid RouteQuery> queries,
+
+            @DefaultValue("PARETO")
+            @QueryParam("mode")
+            SearchMode mode) {
+        try {
+            return pathFinder.findShortestPaths(queries, mode);
+        } catch (IllegalArgumentException e) {
+            // An invalid deadline fails the whole batch as a bad request.
+            throw new BadRequestException(e.getMessage());
         }
-
-        return candidates;
-    }
-
-    private LocalDateTime nextDate(LocalDateTime date) {
-        return date.plus(ONE_DAY_MS + (random.nextInt(1000) - 500) * ONE_MIN_MS, ChronoUnit.MILLIS);
-    }
-
-    private int getRandomNumberOfCandidates() {
-        return 3 + random.nextInt(3);
-    }
-
-    private List<String> getRandomChunkOfLocations(List<String> allLocations) {
-        Collections.shuffle(allLocations);
-        int total = allLocations.size();
-        int chunk = total > 4 ? 1 + new SecureRandom().nextInt(5) : total;
-        return allLocations.subList(0, chunk);
     }
 }
@@ -0,0 +1,231 @@
+package org.eclipse.pathfinder.api;
+
+import jakarta.annotation.Nullable;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.pathfinder.internal.ConnectionScan;
+import org.eclipse.pathfinder.internal.GraphDao;
+import org.eclipse.pathfinder.internal.RaptorSearch;
+import org.eclipse.pathfinder.internal.ReachabilityIndex;
+import org.eclipse.pathfinder.internal.ReachabilityMatrix;
+import org.eclipse.pathfinder.internal.SearchClock;
+import org.eclipse.pathfinder.internal.SearchPool;
+import org.eclipse.pathfinder.internal.Timetable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * In-process entry point of the path-finder, with the same contract as {@link
+ * GraphTraversalService}. Applications deployed along with the path-finder call it directly,
+ * without going through HTTP and JSON.
+ */
+@ApplicationScoped
+public class PathFinder {
+
+    private static final List<DateTimeFormatter> DEADLINE_FORMATS =
+            List.of(DateTimeFormatter.ISO_LOCAL_DATE, DateTimeFormatter.BASIC_ISO_DATE);
+
+    private GraphDao dao;
+    private SearchPool searchPool;
+    private ReachabilityIndex reachabilityIndex;
+    private SearchClock clock;
+
+    // No-arg constructor required by CDI
+    public PathFinder() {
+    }
+
+    @Inject
+    public PathFinder(
+            GraphDao dao,
+            SearchPool searchPool,
+            ReachabilityIndex reachabilityIndex,
+            SearchClock clock) {
+        this.dao = dao;
+        this.searchPool = searchPool;
+        this.reachabilityIndex = reachabilityIndex;
+        this.clock = clock;
+    }
+
+    /**
+     * Searches within the {@link SearchBudget#DEFAULT default budget}.
+     *
+     * @param deadline arrival deadline formatted as yyyy-MM-dd or yyyyMMdd, the paths returned
+     *                 arrive before that day. No deadline if null or blank.
+     * @return The paths found, an empty list if no path reaches the destination in time.
+     * @throws IllegalArgumentException if the deadline is not a date
+     */
+    public List<TransitPath> findShortestPath(
+            String originUnLocode, String destinationUnLocode, String deadline, SearchMode mode) {
+        return findShortestPath(
+                        originUnLocode, destinationUnLocode, deadline, mode, SearchBudget.DEFAULT)
+                .paths();
+    }
+
+    /**
+     * @param deadline arrival deadline formatted as yyyy-MM-dd or yyyyMMdd, the paths returned
+     *                 arrive before that day. No deadline if null or blank.
+     * @param budget   bounds the work of the search
+     * @return The paths found, flagged as incomplete if the budget ran out before the search
+     * ended.
+     * @throws IllegalArgumentException if the deadline is not a date
+     */
+    public SearchResult findShortestPath(
+            String originUnLocode,
+            String destinationUnLocode,
+            String deadline,
+            SearchMode mode,
+            SearchBudget budget) {
+        return findPaths(
+                dao.getTimetable(),
+                originUnLocode,
+                destinationUnLocode,
+                clock.now(),
+                toArrivalDeadline(deadline),
+                mode,
+                budget);
+    }
+
+    /**
+     * Streaming variant of {@link #findShortestPath(String, String, String, SearchMode,
+     * SearchBudget)}, handing every path to the consumer as soon as the search has settled it. In
+     * {@link SearchMode#PARETO} mode, the paths come by number of voyages, then by arrival time.
+     * The single earliest arrival path only comes at the end of its search.
+     *
+     * @param consumer called with every path found, on the calling thread
+     * @return false if the budget ran out before the search ended, in which case better paths may
+     * exist
+     * @throws IllegalArgumentException if the deadline is not a date
+     */
+    public boolean findShortestPath(
+            String originUnLocode,
+            String destinationUnLocode,
+            String deadline,
+            SearchMode mode,
+            SearchBudget budget,
+            Consumer<TransitPath> consumer) {
+        Timetable timetable = dao.getTimetable();
+        LocalDateTime departureTime = clock.now();
+        LocalDateTime arrivalDeadline = toArrivalDeadline(deadline);
+
+        if (mode == SearchMode.PARETO) {
+            return new RaptorSearch(timetable)
+                    .findParetoOptimal(
+                            originUnLocode,
+                            destinationUnLocode,
+                            departureTime,
+                            arrivalDeadline,
+                            budget,
+                            consumer);
+        }
+
+        SearchResult result =
+                findPaths(
+                        timetable,
+                        originUnLocode,
+                        destinationUnLocode,
+                        departureTime,
+                        arrivalDeadline,
+                        mode,
+                        budget);
+        result.paths().forEach(consumer);
+        return result.complete();
+    }
+
+    /**
+     * Batch variant of {@link #findShortestPath}, the queries are searched in parallel within the
+     * default budget each.
+     *
+     * @return The paths found for every query, in the order of the queries.
+     * @throws IllegalArgumentException if any deadline is not a date
+     */
+    public List<List<TransitPath>> findShortestPaths(List<RouteQuery> queries, SearchMode mode) {
+        Timetable timetable = dao.getTimetable();
+        LocalDateTime departureTime = clock.now();
+        // Deadlines are parsed up front, an invalid one fails the whole batch.
+        List<LocalDateTime> arrivalDeadlines =
+                queries.stream().map(query -> toArrivalDeadline(query.deadline())).toList();
+
+        return searchPool.invokeAll(
+                queries.size(),
+                i ->
+                        findPaths(
+                                timetable,
+                                queries.get(i).origin(),
+                                queries.get(i).destination(),
+                                departureTime,
+                                arrivalDeadlines.get(i),
+                                mode,
+                                SearchBudget.DEFAULT)
+                                .paths());
+    }
+
+    /**
+     * Looks the destinations reachable from the origin up in the precomputed reachability matrix,
+     * without searching. The earliest arrivals are those of departures from the time the matrix
+     * was computed, a few minutes ago at most, so no path may arrive before them.
+     *
+     * @return The earliest arrival at every destination reachable from the origin, by UN location
+     * code, or null if the matrix of the current network is not computed yet.
+     */
+    @Nullable
+    public Map<String, LocalDateTime> findEarliestArrivals(String originUnLocode) {
+        ReachabilityMatrix matrix = reachabilityIndex.getMatrix();
+        return matrix == null ? null : matrix.findEarliestArrivals(originUnLocode);
+    }
+
+    private SearchResult findPaths(
+            Timetable timetable,
+            String originUnLocode,
+            String destinationUnLocode,
+            LocalDateTime departureTime,
+            LocalDateTime arrivalDeadline,
+            SearchMode mode,
+            SearchBudget budget) {
+        // No path at all states that none reaches the destination before the deadline.
+        return switch (mode) {
+            case PARETO -> new RaptorSearch(timetable)
+                    .findParetoOptimal(
+                            originUnLocode,
+                            destinationUnLocode,
+                            departureTime,
+                            arrivalDeadline,
+                            budget);
+            case EARLIEST_ARRIVAL -> new ConnectionScan(timetable)
+                    .findEarliestArrival(
+                            originUnLocode,
+                            destinationUnLocode,
+                            departureTime,
+                            arrivalDeadline,
+                            budget);
+        };
+    }
+
+    /**
+     * The deadline is a date, accepted as yyyy-MM-dd or yyyyMMdd. Like the route specification of
+     * the booking application, the cargo must arrive before that day begins.
+     *
+     * @throws IllegalArgumentException if the deadline is not a date
+     */
+    static LocalDateTime toArrivalDeadline(String deadline) {
+        if (deadline == null || deadline.isBlank()) {
+            return LocalDateTime.MAX;
+        }
+
+        for (DateTimeFormatter format : DEADLINE_FORMATS) {
+            try {
+                return LocalDate.parse(deadline, format).atStartOfDay();
+            } catch (DateTimeParseException e) {
+                // Try the next format.
+            }
+        }
+
+        throw new IllegalArgumentException(
+                "Deadline value must be a date formatted as yyyy-MM-dd or yyyyMMdd.");
+    }
+}
@@ -0,0 +1,38 @@
+package org.eclipse.pathfinder.api;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.io.Serializable;
+
+/**
+ * One origin and destination pair of a batch of path searches, with the same meaning as the
+ * query parameters of a single search.
+ */
+public record RouteQuery(
+        @NotBlank(message = "Missing origin UN location code.")
+        @Size(
+                min = 5,
+                max = 5,
+                message = "Origin UN location code value must be five characters long."
+        )
+        String origin,
+
+        @NotBlank(message = "Missing destination UN location code.")
+        @Size(
+                min = 5,
+                max = 5,
+                message = "Destination UN location code value must be five characters long."
+        )
+        String destination,
+
+        @Size(
+                min = 8,
+                max = 10,
+                message = "Deadline value must be between eight and ten characters long."
+        )
+        String deadline
+) implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+}
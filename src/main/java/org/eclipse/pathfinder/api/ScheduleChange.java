@@ -0,0 +1,23 @@
+package org.eclipse.pathfinder.api;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Notifies the path-finder that the schedule of a voyage has been added, retimed or cancelled, so
+ * that only the connections of that voyage are replaced in the routing network.
+ *
+ * @param voyageNumber voyage whose schedule has changed
+ * @param movements    the carrier movements of the voyage from now on, none if it is cancelled
+ */
+public record ScheduleChange(String voyageNumber, List<TransitEdge> movements)
+        implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public ScheduleChange {
+        Objects.requireNonNull(voyageNumber, "Voyage number is required");
+        movements = movements == null ? List.of() : List.copyOf(movements);
+    }
+}
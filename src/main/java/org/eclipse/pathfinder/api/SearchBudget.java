@@ -0,0 +1,37 @@
+package org.eclipse.pathfinder.api;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Bounds the work of one path search. A search running out of budget stops and returns the paths
+ * found so far, flagged as possibly sub-optimal by {@link SearchResult#complete()}.
+ *
+ * @param maxExpansions maximum number of labels created, or connections scanned by the earliest
+ *                      arrival search
+ * @param timeLimit     maximum duration of the search
+ */
+public record SearchBudget(int maxExpansions, Duration timeLimit) implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int MAX_EXPANSIONS = 1_000_000;
+    public static final long MAX_TIME_LIMIT_MILLIS = 2_000;
+
+    /**
+     * The largest budget a request may get, and the one it gets by default.
+     */
+    public static final SearchBudget DEFAULT =
+            new SearchBudget(MAX_EXPANSIONS, Duration.ofMillis(MAX_TIME_LIMIT_MILLIS));
+
+    public static final SearchBudget UNLIMITED =
+            new SearchBudget(Integer.MAX_VALUE, Duration.ofNanos(Long.MAX_VALUE));
+
+    public SearchBudget {
+        Objects.requireNonNull(timeLimit, "Time limit is required");
+        if (maxExpansions <= 0 || timeLimit.isNegative() || timeLimit.isZero()) {
+            throw new IllegalArgumentException("The search budget must be positive.");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.eclipse.pathfinder.api;
+
+/**
+ * How the path-finder searches the routing network.
+ */
+public enum SearchMode {
+
+    /**
+     * All the paths that are not beaten on arrival time, number of voyages and port dwell at once.
+     */
+    PARETO,
+
+    /**
+     * The single path arriving the earliest at the destination.
+     */
+    EARLIEST_ARRIVAL
+}
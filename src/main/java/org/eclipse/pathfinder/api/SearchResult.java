@@ -0,0 +1,20 @@
+package org.eclipse.pathfinder.api;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * The paths found by one search.
+ *
+ * @param paths    the paths found, by arrival time
+ * @param complete false if the search ran out of {@link SearchBudget}, in which case better paths
+ *                 may exist
+ */
+public record SearchResult(List<TransitPath> paths, boolean complete) implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public SearchResult {
+        paths = List.copyOf(paths);
+    }
+}
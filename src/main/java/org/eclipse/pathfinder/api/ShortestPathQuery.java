@@ -0,0 +1,85 @@
+package org.eclipse.pathfinder.api;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.QueryParam;
+
+import java.time.Duration;
+
+/**
+ * Query parameters of a single path search, shared by its plain and streaming variants. The
+ * budget may only be lowered below the default one, see {@link SearchBudget#DEFAULT}.
+ */
+public class ShortestPathQuery {
+
+    @NotBlank(message = "Missing origin UN location code.")
+    @Size(
+            min = 5,
+            max = 5,
+            message = "Origin UN location code value must be five characters long."
+    )
+    @QueryParam("origin")
+    private String originUnLocode;
+
+    @NotBlank(message = "Missing destination UN location code.")
+    @Size(
+            min = 5,
+            max = 5,
+            message = "Destination UN location code value must be five characters long."
+    )
+    @QueryParam("destination")
+    private String destinationUnLocode;
+
+    @Size(
+            min = 8,
+            max = 10,
+            message = "Deadline value must be between eight and ten characters long."
+    )
+    @QueryParam("deadline")
+    private String deadline;
+
+    @DefaultValue("PARETO")
+    @QueryParam("mode")
+    private SearchMode mode;
+
+    @Min(value = 1, message = "Maximum expansions must be positive.")
+    @Max(
+            value = SearchBudget.MAX_EXPANSIONS,
+            message = "Maximum expansions can not exceed 1000000."
+    )
+    @DefaultValue("1000000")
+    @QueryParam("maxExpansions")
+    private int maxExpansions;
+
+    @Min(value = 1, message = "Time limit must be positive.")
+    @Max(
+            value = SearchBudget.MAX_TIME_LIMIT_MILLIS,
+            message = "Time limit can not exceed 2000 milliseconds."
+    )
+    @DefaultValue("2000")
+    @QueryParam("timeLimit")
+    private long timeLimitMillis;
+
+    public String getOriginUnLocode() {
+        return originUnLocode;
+    }
+
+    public String getDestinationUnLocode() {
+        return destinationUnLocode;
+    }
+
+    public String getDeadline() {
+        return deadline;
+    }
+
+    public SearchMode getMode() {
+        return mode;
+    }
+
+    public SearchBudget getBudget() {
+        return new SearchBudget(maxExpansions, Duration.ofMillis(timeLimitMillis));
+    }
+}
@@ -0,0 +1,18 @@
+package org.eclipse.pathfinder.internal;
+
+import java.time.LocalDateTime;
+
+/**
+ * An elementary connection of the timetable, i.e. a single carrier movement of a voyage from one
+ * stop to the next one without any intermediate stop.
+ *
+ * <p>Stops and trips are referenced by their index in the owning {@link Timetable}.
+ */
+public record Connection(
+        int trip,
+        int departureStop,
+        int arrivalStop,
+        LocalDateTime departureTime,
+        LocalDateTime arrivalTime
+) {
+}
@@ -0,0 +1,222 @@
+package org.eclipse.pathfinder.internal;
+
+import jakarta.annotation.Nullable;
+import org.eclipse.pathfinder.api.SearchBudget;
+import org.eclipse.pathfinder.api.SearchResult;
+import org.eclipse.pathfinder.api.TransitEdge;
+import org.eclipse.pathfinder.api.TransitPath;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Earliest arrival search over a {@link Timetable}, following the Connection Scan Algorithm.
+ *
+ * <p>The connections are scanned once in departure order starting from the requested departure
+ * time. A connection is usable if its trip has already been boarded or if its departure stop has
+ * been reached in time, and the scan stops as soon as the remaining connections depart after the
+ * best known arrival at the destination. The search is deterministic and runs in time linear to the
+ * number of scanned connections. It works on the int columns of the timetable only, the scan
+ * itself allocates nothing and objects are created for the resulting path alone.
+ *
+ * <p>An optional arrival deadline bounds the search from the start: connections arriving at or
+ * after the deadline are never boarded, and the scan ends with the first connection departing at or
+ * after it, so partial paths that can not make it in time are not explored at all.
+ *
+ * <p>A {@link SearchBudget} bounds the number of connections scanned. A scan stopped early returns
+ * the best path to the destination found so far, if any.
+ *
+ * <p>Consecutive connections of the same trip are merged, so every edge of the resulting path
+ * describes one voyage between a load and an unload location.
+ */
+public class ConnectionScan {
+
+    static final int UNREACHED = Integer.MAX_VALUE;
+
+    private static final int NONE = -1;
+
+    private final Timetable timetable;
+
+    public ConnectionScan(Timetable timetable) {
+        this.timetable = timetable;
+    }
+
+    /**
+     * @param originUnLocode      UN location code of the origin
+     * @param destinationUnLocode UN location code of the destination
+     * @param departureTime       the cargo can not leave the origin before this time
+     * @return The path arriving the earliest at the destination, or null if the destination can
+     * not be reached.
+     */
+    @Nullable
+    public TransitPath findEarliestArrival(
+            String originUnLocode, String destinationUnLocode, LocalDateTime departureTime) {
+        return findEarliestArrival(
+                originUnLocode, destinationUnLocode, departureTime, LocalDateTime.MAX);
+    }
+
+    /**
+     * @param originUnLocode      UN location code of the origin
+     * @param destinationUnLocode UN location code of the destination
+     * @param departureTime       the cargo can not leave the origin before this time
+     * @param arrivalDeadline     the cargo must arrive strictly before this time
+     * @return The path arriving the earliest at the destination, or null if the destination can
+     * not be reached before the deadline.
+     */
+    @Nullable
+    public TransitPath findEarliestArrival(
+            String originUnLocode,
+            String destinationUnLocode,
+            LocalDateTime departureTime,
+            LocalDateTime arrivalDeadline) {
+        List<TransitPath> paths =
+                findEarliestArrival(
+                                originUnLocode,
+                                destinationUnLocode,
+                                departureTime,
+                                arrivalDeadline,
+                                SearchBudget.UNLIMITED)
+                        .paths();
+        return paths.isEmpty() ? null : paths.getFirst();
+    }
+
+    /**
+     * @param originUnLocode      UN location code of the origin
+     * @param destinationUnLocode UN location code of the destination
+     * @param departureTime       the cargo can not leave the origin before this time
+     * @param arrivalDeadline     the cargo must arrive strictly before this time
+     * @param budget              bounds the connections scanned and the duration of the search
+     * @return The path arriving the earliest at the destination, or the best one found so far if
+     * the budget ran out. No path if the destination can not be reached before the deadline.
+     */
+    public SearchResult findEarliestArrival(
+            String originUnLocode,
+            String destinationUnLocode,
+            LocalDateTime departureTime,
+            LocalDateTime arrivalDeadline,
+            SearchBudget budget) {
+        int origin = timetable.indexOfStop(originUnLocode);
+        int destination = timetable.indexOfStop(destinationUnLocode);
+
+        if (origin == NONE || destination == NONE || origin == destination) {
+            return new SearchResult(List.of(), true);
+        }
+
+        ExpansionCounter counter = new ExpansionCounter(budget);
+        int[] earliestArrival = new int[timetable.stopCount()];
+        Arrays.fill(earliestArrival, UNREACHED);
+        int[] arrivingConnection = newIndexArray(timetable.stopCount());
+        int[] boardingConnection = newIndexArray(timetable.stopCount());
+        int[] tripBoarding = newIndexArray(timetable.tripCount());
+
+        int departureMinute = Timetable.ceilingEpochMinute(departureTime);
+        earliestArrival[origin] = departureMinute;
+
+        // Exclusive upper bound on useful arrival times, tightened whenever the destination is
+        // reached.
+        int bound = Timetable.ceilingEpochMinute(arrivalDeadline);
+
+        for (int i = timetable.firstConnectionDepartingFrom(departureMinute);
+             i < timetable.connectionCount();
+             i++) {
+            // Nothing departing from now on can arrive before the bound.
+            if (timetable.departureMinute(i) >= bound || !counter.tryExpand()) {
+                break;
+            }
+
+            int arrival = timetable.arrivalMinute(i);
+            if (arrival >= bound) {
+                continue;
+            }
+
+            int trip = timetable.connectionTrip(i);
+            if (tripBoarding[trip] == NONE) {
+                if (earliestArrival[timetable.departureStop(i)] > timetable.departureMinute(i)) {
+                    continue;
+                }
+                tripBoarding[trip] = i;
+            }
+
+            int stop = timetable.arrivalStop(i);
+            if (arrival < earliestArrival[stop]) {
+                earliestArrival[stop] = arrival;
+                arrivingConnection[stop] = i;
+                boardingConnection[stop] = tripBoarding[trip];
+
+                if (stop == destination) {
+                    bound = arrival;
+                }
+            }
+        }
+
+        boolean complete = !counter.isExhausted();
+        if (arrivingConnection[destination] == NONE) {
+            return new SearchResult(List.of(), complete);
+        }
+
+        return new SearchResult(
+                List.of(toTransitPath(origin, destination, arrivingConnection, boardingConnection)),
+                complete);
+    }
+
+    /**
+     * Scans the whole timetable from the origin, there is no destination to stop the scan at. No
+     * path is kept, only the arrival times.
+     *
+     * @param origin          index of the origin stop
+     * @param departureMinute the cargo can not leave the origin before this epoch minute
+     * @return The earliest arrival minute at every stop, by stop index, {@link #UNREACHED} for the
+     * stops that can not be reached. The origin is reached at the departure minute.
+     */
+    int[] findEarliestArrivals(int origin, int departureMinute) {
+        int[] earliestArrival = new int[timetable.stopCount()];
+        Arrays.fill(earliestArrival, UNREACHED);
+        boolean[] tripBoarded = new boolean[timetable.tripCount()];
+        earliestArrival[origin] = departureMinute;
+
+        for (int i = timetable.firstConnectionDepartingFrom(departureMinute);
+             i < timetable.connectionCount();
+             i++) {
+            int trip = timetable.connectionTrip(i);
+            if (!tripBoarded[trip]) {
+                if (earliestArrival[timetable.departureStop(i)] > timetable.departureMinute(i)) {
+                    continue;
+                }
+                tripBoarded[trip] = true;
+            }
+
+            int stop = timetable.arrivalStop(i);
+            earliestArrival[stop] = Math.min(earliestArrival[stop], timetable.arrivalMinute(i));
+        }
+        return earliestArrival;
+    }
+
+    private TransitPath toTransitPath(
+            int origin, int destination, int[] arrivingConnection, int[] boardingConnection) {
+        List<TransitEdge> edges = new ArrayList<>();
+
+        int stop = destination;
+        while (stop != origin) {
+            int unload = arrivingConnection[stop];
+            int load = boardingConnection[stop];
+            edges.add(
+                    new TransitEdge(
+                            timetable.trip(timetable.connectionTrip(unload)),
+                            timetable.stop(timetable.departureStop(load)),
+                            timetable.stop(stop),
+                            Timetable.ofEpochMinute(timetable.departureMinute(load)),
+                            Timetable.ofEpochMinute(timetable.arrivalMinute(unload))));
+            stop = timetable.departureStop(load);
+        }
+
+        return new TransitPath(edges.reversed());
+    }
+
+    private static int[] newIndexArray(int size) {
+        int[] indexes = new int[size];
+        Arrays.fill(indexes, NONE);
+        return indexes;
+    }
+}
@@ -0,0 +1,43 @@
+package org.eclipse.pathfinder.internal;
+
+import org.eclipse.pathfinder.api.SearchBudget;
+
+/**
+ * Counts the expansions of one search against its {@link SearchBudget}. The clock is only read
+ * every {@value #CLOCK_INTERVAL} expansions, so that counting stays cheap.
+ */
+final class ExpansionCounter {
+
+    private static final int CLOCK_INTERVAL = 64;
+
+    private final int maxExpansions;
+    private final long timeLimitNanos;
+    private final long startNanos = System.nanoTime();
+    private int expansions;
+    private boolean exhausted;
+
+    ExpansionCounter(SearchBudget budget) {
+        this.maxExpansions = budget.maxExpansions();
+        this.timeLimitNanos = budget.timeLimit().toNanos();
+    }
+
+    /**
+     * @return False if the budget is exhausted, the search then stops with what it has found.
+     */
+    boolean tryExpand() {
+        if (exhausted) {
+            return false;
+        }
+        expansions++;
+        if (expansions > maxExpansions
+                || (expansions % CLOCK_INTERVAL == 0
+                && System.nanoTime() - startNanos > timeLimitNanos)) {
+            exhausted = true;
+        }
+        return !exhausted;
+    }
+
+    boolean isExhausted() {
+        return exhausted;
+    }
+}
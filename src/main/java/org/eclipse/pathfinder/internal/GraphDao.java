@@ -1,45 +1,204 @@
 package org.eclipse.pathfinder.internal;
 
+import jakarta.annotation.Nullable;
+import jakarta.annotation.Resource;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.eclipse.pathfinder.api.ScheduleChange;
 
+import java.io.IOException;
 import java.io.Serializable;
-import java.security.SecureRandom;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+/**
+ * Provides the routing network, built from the voyage schedules persisted by the booking
+ * application.
+ *
+ * <p>Only scalar values are read, the path-finder does not share the domain model of the booking
+ * application. The timetable is loaded lazily on first use and then kept, patched on every
+ * {@link ScheduleChange}.
+ *
+ * <p>Every built timetable is written to a {@link TimetableSnapshot} in the configured directory,
+ * which is mapped instead of being rebuilt as long as the schedules have not changed. The
+ * schedules are identified by a digest of all their carrier movements, computed by the database,
+ * so any change to a voyage, whether made by this node, by another one or directly in the
+ * database, is told apart without reading the schedules.
+ *
+ * <p>A {@link ScheduleChange} only replaces the connections of the changed voyage. The patched
+ * timetable is a copy which is swapped in once complete, so searches in progress keep reading the
+ * previous one and never wait for the update.
+ */
 @ApplicationScoped
 public class GraphDao implements Serializable {
 
     private static final long serialVersionUID = 1L;
+    private static final Logger LOGGER = Logger.getLogger(GraphDao.class.getName());
 
-    private final SecureRandom random = new SecureRandom();
+    private static final String CARRIER_MOVEMENTS_QUERY =
+            "select v.voyageNumber.number,"
+                    + " m.departureLocation.unLocode.unlocode,"
+                    + " m.arrivalLocation.unLocode.unlocode,"
+                    + " m.departureTime,"
+                    + " m.arrivalTime"
+                    + " from Voyage v join v.schedule.carrierMovements m";
+
+    // Digest of every carrier movement, computed by the database so that only the digest is read.
+    private static final String SCHEDULES_FINGERPRINT_QUERY =
+            "SELECT md5(coalesce(string_agg(concat_ws('|', v.voyage_number, d.un_locode,"
+                    + " a.un_locode, m.departure_time, m.arrival_time), ','"
+                    + " ORDER BY v.voyage_number, m.cm_index), ''))"
+                    + " FROM carrier_movements m"
+                    + " JOIN voyages v ON v.id = m.voyage_id"
+                    + " JOIN locations d ON d.id = m.departure_location_id"
+                    + " JOIN locations a ON a.id = m.arrival_location_id";
+
+    private static final String SNAPSHOT_FILE_NAME = "timetable.bin";
+
+    private EntityManager entityManager;
+
+    @Resource(lookup = "java:app/configuration/GraphSnapshotDirectory")
+    private String snapshotDirectory;
+
+    private transient volatile Timetable timetable;
+
+    // No-arg constructor required by CDI
+    public GraphDao() {
+    }
+
+    @Inject
+    public GraphDao(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
 
     public List<String> listLocations() {
-        return List.of(
-                "CNHKG",
-                "AUMEL",
-                "SESTO",
-                "FIHEL",
-                "USCHI",
-                "JNTKO",
-                "DEHAM",
-                "CNSHA",
-                "NLRTM",
-                "SEGOT",
-                "CNHGH",
-                "USNYC",
-                "USDAL"
-        );
-    }
-
-    public String getVoyageNumber(String from, String to) {
-        int i = random.nextInt(5);
-
-        return switch (i) {
-            case 0 -> "0100S";
-            case 1 -> "0200T";
-            case 2 -> "0300A";
-            case 3 -> "0301S";
-            default -> "0400S";
-        };
+        return getTimetable().stops();
+    }
+
+    public Timetable getTimetable() {
+        Timetable result = timetable;
+        if (result == null) {
+            synchronized (this) {
+                result = timetable;
+                if (result == null) {
+                    result = loadTimetable();
+                    timetable = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Patches the connections of the changed voyage into the timetable, if it is loaded already;
+     * otherwise it will be loaded with the change.
+     */
+    public void onScheduleChanged(@Observes ScheduleChange change) {
+        synchronized (this) {
+            Timetable current = timetable;
+            if (current == null) {
+                return;
+            }
+            timetable = current.withTrip(change.voyageNumber(), change.movements());
+            LOGGER.log(
+                    Level.FINE,
+                    "Routing network patched for voyage {0}: {1} connections",
+                    new Object[]{change.voyageNumber(), change.movements().size()});
+        }
+        deleteSnapshot();
+    }
+
+    private Timetable loadTimetable() {
+        int fingerprint = schedulesFingerprint();
+        Path file = snapshotFile();
+
+        if (file != null) {
+            Timetable snapshot = TimetableSnapshot.read(file, fingerprint);
+            if (snapshot != null) {
+                LOGGER.log(
+                        Level.INFO,
+                        "Routing network mapped from {0}: {1} stops, {2} voyages, {3} connections",
+                        new Object[]{
+                                file,
+                                snapshot.stopCount(),
+                                snapshot.tripCount(),
+                                snapshot.connectionCount()
+                        });
+                return snapshot;
+            }
+        }
+
+        return buildTimetable(fingerprint);
+    }
+
+    private Timetable buildTimetable(int fingerprint) {
+        Timetable.Builder builder = new Timetable.Builder();
+
+        entityManager
+                .createQuery(CARRIER_MOVEMENTS_QUERY, Object[].class)
+                .getResultList()
+                .forEach(
+                        row ->
+                                builder.addMovement(
+                                        (String) row[0],
+                                        (String) row[1],
+                                        (String) row[2],
+                                        (LocalDateTime) row[3],
+                                        (LocalDateTime) row[4]));
+
+        Timetable result = builder.build();
+        LOGGER.log(
+                Level.INFO,
+                "Routing network loaded: {0} stops, {1} voyages, {2} connections",
+                new Object[]{result.stopCount(), result.tripCount(), result.connectionCount()});
+
+        Path file = snapshotFile();
+        if (file != null) {
+            try {
+                TimetableSnapshot.write(result, fingerprint, file);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Unable to write the timetable snapshot " + file, e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The patched timetable is not written, the snapshot no longer matches the schedules and is
+     * dropped rather than kept around until the next start.
+     */
+    private void deleteSnapshot() {
+        Path file = snapshotFile();
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Unable to delete the timetable snapshot " + file, e);
+            }
+        }
+    }
+
+    private int schedulesFingerprint() {
+        String digest =
+                (String)
+                        entityManager
+                                .createNativeQuery(SCHEDULES_FINGERPRINT_QUERY)
+                                .getSingleResult();
+        // The snapshot header holds the first 32 bits of the digest.
+        return Integer.parseUnsignedInt(digest.substring(0, 8), 16);
+    }
+
+    @Nullable
+    private Path snapshotFile() {
+        if (snapshotDirectory == null || snapshotDirectory.isBlank()) {
+            return null;
+        }
+        return Path.of(snapshotDirectory.strip(), SNAPSHOT_FILE_NAME);
     }
 }
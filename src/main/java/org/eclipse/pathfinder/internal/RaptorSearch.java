@@ -0,0 +1,484 @@
+package org.eclipse.pathfinder.internal;
+
+import jakarta.annotation.Nullable;
+import org.eclipse.pathfinder.api.SearchBudget;
+import org.eclipse.pathfinder.api.SearchResult;
+import org.eclipse.pathfinder.api.TransitEdge;
+import org.eclipse.pathfinder.api.TransitPath;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Multi-criteria search over a {@link Timetable}, following the round-based approach of RAPTOR.
+ *
+ * <p>Round k finds the paths made of exactly k voyages: every trip departing from a stop improved
+ * in the previous round is traversed once, from the first position it can be boarded at. Every stop
+ * keeps a bag of labels which is a Pareto set over the arrival time, the number of voyages and the
+ * total port dwell, i.e. the time the cargo waits in port between two voyages. A label is dropped as
+ * soon as it is dominated at its stop or by a label of the destination, or when it arrives at or
+ * after the deadline.
+ *
+ * <p>All the Pareto-optimal paths are found in a single pass of at most {@link #MAX_ROUNDS}
+ * rounds, instead of repeating a shortest path search per candidate.
+ *
+ * <p>Labels are rows of int columns referenced by index and the bags are int lists, so the rounds
+ * do not allocate beyond growing those; paths are only materialized for the final answers.
+ *
+ * <p>The search can be bounded by a {@link SearchBudget} on the number of labels created. Once it
+ * is exhausted, the labels already at the destination are returned: they are valid paths, but
+ * later rounds might have beaten them.
+ */
+public class RaptorSearch {
+
+    /**
+     * Maximum number of voyages of a path.
+     */
+    public static final int MAX_ROUNDS = 6;
+
+    private static final int NONE = -1;
+    private static final int NOT_COLLECTED = Integer.MAX_VALUE;
+
+    private final Timetable timetable;
+
+    public RaptorSearch(Timetable timetable) {
+        this.timetable = timetable;
+    }
+
+    /**
+     * @param originUnLocode      UN location code of the origin
+     * @param destinationUnLocode UN location code of the destination
+     * @param departureTime       the cargo can not leave the origin before this time
+     * @param arrivalDeadline     the cargo must arrive strictly before this time
+     * @return The Pareto-optimal paths, by arrival time. May be an empty list if the destination
+     * can not be reached before the deadline.
+     */
+    public List<TransitPath> findParetoOptimal(
+            String originUnLocode,
+            String destinationUnLocode,
+            LocalDateTime departureTime,
+            LocalDateTime arrivalDeadline) {
+        return findParetoOptimal(
+                        originUnLocode,
+                        destinationUnLocode,
+                        departureTime,
+                        arrivalDeadline,
+                        SearchBudget.UNLIMITED)
+                .paths();
+    }
+
+    /**
+     * @param originUnLocode      UN location code of the origin
+     * @param destinationUnLocode UN location code of the destination
+     * @param departureTime       the cargo can not leave the origin before this time
+     * @param arrivalDeadline     the cargo must arrive strictly before this time
+     * @param budget              bounds the labels created and the duration of the search
+     * @return The Pareto-optimal paths by arrival time, or the paths found so far if the budget
+     * ran out.
+     */
+    public SearchResult findParetoOptimal(
+            String originUnLocode,
+            String destinationUnLocode,
+            LocalDateTime departureTime,
+            LocalDateTime arrivalDeadline,
+            SearchBudget budget) {
+        Search search =
+                start(originUnLocode, destinationUnLocode, departureTime, arrivalDeadline, budget);
+        if (search == null) {
+            return new SearchResult(List.of(), true);
+        }
+
+        while (search.hasNextRound()) {
+            search.next();
+        }
+
+        List<TransitPath> paths =
+                Arrays.stream(search.bags[search.destination].toArray())
+                        .boxed()
+                        .sorted(byArrival(search.labels))
+                        .map(label -> toTransitPath(search.labels, label))
+                        .toList();
+        return new SearchResult(paths, !search.counter.isExhausted());
+    }
+
+    /**
+     * Streaming variant of {@link #findParetoOptimal(String, String, LocalDateTime, LocalDateTime,
+     * SearchBudget)}, handing every path to the consumer as soon as it is final instead of all of
+     * them at the end of the search.
+     *
+     * <p>Round k only finds paths of k voyages, which can not beat the paths of fewer voyages, so
+     * the paths at the destination are final once their round is over. They come by number of
+     * voyages, then by arrival time.
+     *
+     * @param consumer called with every Pareto-optimal path, on the calling thread
+     * @return false if the budget ran out, in which case better paths may exist
+     */
+    public boolean findParetoOptimal(
+            String originUnLocode,
+            String destinationUnLocode,
+            LocalDateTime departureTime,
+            LocalDateTime arrivalDeadline,
+            SearchBudget budget,
+            Consumer<TransitPath> consumer) {
+        Search search =
+                start(originUnLocode, destinationUnLocode, departureTime, arrivalDeadline, budget);
+        if (search == null) {
+            return true;
+        }
+
+        while (search.hasNextRound()) {
+            search.next();
+
+            Labels labels = search.labels;
+            Arrays.stream(search.improved[search.destination].toArray())
+                    .filter(label -> !labels.dominated[label])
+                    .boxed()
+                    .sorted(byArrival(labels))
+                    .forEach(label -> consumer.accept(toTransitPath(labels, label)));
+        }
+        return !search.counter.isExhausted();
+    }
+
+    /**
+     * @return The search with the origin label offered, or null if there is nothing to search.
+     */
+    @Nullable
+    private Search start(
+            String originUnLocode,
+            String destinationUnLocode,
+            LocalDateTime departureTime,
+            LocalDateTime arrivalDeadline,
+            SearchBudget budget) {
+        int origin = timetable.indexOfStop(originUnLocode);
+        int destination = timetable.indexOfStop(destinationUnLocode);
+
+        if (origin < 0 || destination < 0 || origin == destination) {
+            return null;
+        }
+
+        Search search =
+                new Search(
+                        destination,
+                        Timetable.ceilingEpochMinute(arrivalDeadline),
+                        new ExpansionCounter(budget));
+        search.offer(origin, Timetable.ceilingEpochMinute(departureTime), 0, 0, NONE, NONE, NONE);
+        return search;
+    }
+
+    private static Comparator<Integer> byArrival(Labels labels) {
+        return Comparator.comparingInt((Integer label) -> labels.arrival[label])
+                .thenComparingInt(label -> labels.legs[label])
+                .thenComparingInt(label -> labels.dwell[label]);
+    }
+
+    private TransitPath toTransitPath(Labels labels, int label) {
+        List<TransitEdge> edges = new ArrayList<>(labels.legs[label]);
+
+        for (int current = label; labels.parent[current] != NONE; current = labels.parent[current]) {
+            int load = labels.boarding[current];
+            int unload = labels.alighting[current];
+            edges.add(
+                    new TransitEdge(
+                            timetable.trip(timetable.connectionTrip(load)),
+                            timetable.stop(timetable.departureStop(load)),
+                            timetable.stop(timetable.arrivalStop(unload)),
+                            Timetable.ofEpochMinute(timetable.departureMinute(load)),
+                            Timetable.ofEpochMinute(timetable.arrivalMinute(unload))));
+        }
+
+        return new TransitPath(edges.reversed());
+    }
+
+    /**
+     * The state of one search, advanced one round at a time.
+     */
+    private class Search {
+
+        private final int destination;
+        private final int arrivalDeadline;
+        private final Labels labels = new Labels();
+        // Non-dominated labels of every stop, over all the rounds.
+        private final IntArrayList[] bags;
+        // Labels added to every stop during the current round, and the round before.
+        private IntArrayList[] improved;
+        private IntArrayList[] previous;
+        // First position every trip can be boarded at in the current round.
+        private final int[] firstPositions;
+        private final ExpansionCounter counter;
+        private int round;
+
+        Search(int destination, int arrivalDeadline, ExpansionCounter counter) {
+            this.destination = destination;
+            this.arrivalDeadline = arrivalDeadline;
+            this.counter = counter;
+            this.bags = newBags();
+            this.improved = newBags();
+            this.previous = newBags();
+            this.firstPositions = new int[timetable.tripCount()];
+        }
+
+        boolean hasNextRound() {
+            return round < MAX_ROUNDS && hasMarkedStops() && !counter.isExhausted();
+        }
+
+        private boolean hasMarkedStops() {
+            for (IntArrayList stopLabels : improved) {
+                if (!stopLabels.isEmpty()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void next() {
+            round++;
+            IntArrayList[] swapped = previous;
+            previous = improved;
+            improved = swapped;
+            for (IntArrayList stopLabels : improved) {
+                stopLabels.clear();
+            }
+
+            collectTrips();
+            for (int trip = 0; trip < firstPositions.length && !counter.isExhausted(); trip++) {
+                if (firstPositions[trip] != NOT_COLLECTED) {
+                    scanTrip(trip, firstPositions[trip]);
+                }
+            }
+        }
+
+        /**
+         * Finds, for every trip departing from a stop improved in the previous round, the first
+         * position it can be boarded at from one of the new labels.
+         */
+        private void collectTrips() {
+            Arrays.fill(firstPositions, NOT_COLLECTED);
+
+            for (int stop = 0; stop < previous.length; stop++) {
+                int earliest = earliestArrival(previous[stop]);
+                if (earliest == Integer.MAX_VALUE) {
+                    continue;
+                }
+                for (int k = 0; k < timetable.departureCount(stop); k++) {
+                    int departure = timetable.departure(stop, k);
+                    if (timetable.departureMinute(departure) >= earliest) {
+                        int trip = timetable.connectionTrip(departure);
+                        firstPositions[trip] =
+                                Math.min(firstPositions[trip], timetable.tripPosition(departure));
+                    }
+                }
+            }
+        }
+
+        private void scanTrip(int trip, int firstPosition) {
+            int boarded = NONE;
+            int boardingConnection = NONE;
+            int boardedDwell = 0;
+
+            for (int position = firstPosition; position < timetable.tripLength(trip); position++) {
+                int connection = timetable.tripConnection(trip, position);
+                int departure = timetable.departureMinute(connection);
+
+                // (Re)boarding here is worth it if it saves port dwell.
+                IntArrayList candidates = previous[timetable.departureStop(connection)];
+                for (int i = 0; i < candidates.size(); i++) {
+                    int label = candidates.get(i);
+                    if (labels.dominated[label] || labels.arrival[label] > departure) {
+                        continue;
+                    }
+                    int dwell = labels.dwellUntil(label, departure);
+                    if (boarded == NONE || dwell < boardedDwell) {
+                        boarded = label;
+                        boardingConnection = connection;
+                        boardedDwell = dwell;
+                    }
+                }
+
+                if (boarded == NONE) {
+                    continue;
+                }
+
+                int arrival = timetable.arrivalMinute(connection);
+                if (arrival >= arrivalDeadline) {
+                    break;
+                }
+
+                offer(
+                        timetable.arrivalStop(connection),
+                        arrival,
+                        labels.legs[boarded] + 1,
+                        boardedDwell,
+                        boarded,
+                        boardingConnection,
+                        connection);
+            }
+        }
+
+        void offer(
+                int stop,
+                int arrival,
+                int legs,
+                int dwell,
+                int parent,
+                int boardingConnection,
+                int alightingConnection) {
+            boolean atDestination = stop == destination;
+            // Any extension of a label beaten by a path already found is beaten too.
+            if (isDominated(arrival, legs, dwell, bags[destination], true)
+                    || (!atDestination && isDominated(arrival, legs, dwell, bags[stop], false))
+                    || !counter.tryExpand()) {
+                return;
+            }
+
+            IntArrayList bag = bags[stop];
+            int kept = 0;
+            for (int i = 0; i < bag.size(); i++) {
+                int existing = bag.get(i);
+                if (Labels.dominates(
+                        arrival,
+                        legs,
+                        dwell,
+                        parent == NONE,
+                        labels.arrival[existing],
+                        labels.legs[existing],
+                        labels.dwell[existing],
+                        atDestination)) {
+                    labels.dominated[existing] = true;
+                } else {
+                    bag.set(kept++, existing);
+                }
+            }
+            bag.truncate(kept);
+
+            int label =
+                    labels.add(
+                            arrival, legs, dwell, parent, boardingConnection, alightingConnection);
+            bag.add(label);
+            improved[stop].add(label);
+        }
+
+        private boolean isDominated(
+                int arrival, int legs, int dwell, IntArrayList bag, boolean atDestination) {
+            for (int i = 0; i < bag.size(); i++) {
+                int existing = bag.get(i);
+                if (Labels.dominates(
+                        labels.arrival[existing],
+                        labels.legs[existing],
+                        labels.dwell[existing],
+                        labels.parent[existing] == NONE,
+                        arrival,
+                        legs,
+                        dwell,
+                        atDestination)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int earliestArrival(IntArrayList stopLabels) {
+            int earliest = Integer.MAX_VALUE;
+            for (int i = 0; i < stopLabels.size(); i++) {
+                int label = stopLabels.get(i);
+                if (!labels.dominated[label]) {
+                    earliest = Math.min(earliest, labels.arrival[label]);
+                }
+            }
+            return earliest;
+        }
+
+        private IntArrayList[] newBags() {
+            IntArrayList[] newBags = new IntArrayList[timetable.stopCount()];
+            for (int i = 0; i < newBags.length; i++) {
+                newBags[i] = new IntArrayList();
+            }
+            return newBags;
+        }
+    }
+
+    /**
+     * Arrivals at a stop with the voyage leading there, as rows of int columns. The path of a label
+     * is rebuilt by following the parents back to the origin label.
+     */
+    private static final class Labels {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private int[] arrival = new int[INITIAL_CAPACITY];
+        private int[] legs = new int[INITIAL_CAPACITY];
+        // Port dwell, in minutes.
+        private int[] dwell = new int[INITIAL_CAPACITY];
+        private int[] parent = new int[INITIAL_CAPACITY];
+        private int[] boarding = new int[INITIAL_CAPACITY];
+        private int[] alighting = new int[INITIAL_CAPACITY];
+        private boolean[] dominated = new boolean[INITIAL_CAPACITY];
+        private int size;
+
+        int add(
+                int arrival,
+                int legs,
+                int dwell,
+                int parent,
+                int boardingConnection,
+                int alightingConnection) {
+            if (size == this.arrival.length) {
+                int capacity = size * 2;
+                this.arrival = Arrays.copyOf(this.arrival, capacity);
+                this.legs = Arrays.copyOf(this.legs, capacity);
+                this.dwell = Arrays.copyOf(this.dwell, capacity);
+                this.parent = Arrays.copyOf(this.parent, capacity);
+                this.boarding = Arrays.copyOf(this.boarding, capacity);
+                this.alighting = Arrays.copyOf(this.alighting, capacity);
+                this.dominated = Arrays.copyOf(this.dominated, capacity);
+            }
+            this.arrival[size] = arrival;
+            this.legs[size] = legs;
+            this.dwell[size] = dwell;
+            this.parent[size] = parent;
+            this.boarding[size] = boardingConnection;
+            this.alighting[size] = alightingConnection;
+            return size++;
+        }
+
+        /**
+         * The initial wait at the origin is not port dwell, the cargo has not been received yet.
+         */
+        int dwellUntil(int label, int departure) {
+            if (parent[label] == NONE) {
+                return 0;
+            }
+            return dwell[label] + (departure - arrival[label]);
+        }
+
+        /**
+         * Before the destination, an earlier arrival also means a longer wait for the same next
+         * voyage, so the dwell is compared as if both labels had waited until the later arrival.
+         */
+        static boolean dominates(
+                int arrival,
+                int legs,
+                int dwell,
+                boolean origin,
+                int otherArrival,
+                int otherLegs,
+                int otherDwell,
+                boolean atDestination) {
+            if (arrival > otherArrival || legs > otherLegs) {
+                return false;
+            }
+            long waited;
+            if (atDestination) {
+                waited = dwell;
+            } else if (origin) {
+                waited = 0;
+            } else {
+                waited = (long) dwell + otherArrival - arrival;
+            }
+            return waited <= otherDwell;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.eclipse.pathfinder.internal;
+
+import jakarta.annotation.Nullable;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.concurrent.Asynchronous;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.concurrent.Schedule;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Startup;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import org.eclipse.pathfinder.api.ScheduleChange;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps a {@link ReachabilityMatrix} of the routing network computed in the background, so that
+ * the reachable destinations and earliest arrivals are known without searching.
+ *
+ * <p>The matrix is computed after startup, then again every ten minutes as departures go by, and
+ * whenever a {@link ScheduleChange} patches the timetable. In between, departures may have been
+ * missed, so the earliest arrivals are a lower bound rather than a promise. Until the matrix of
+ * the current timetable is ready, there is none. A burst of changes, e.g. while loading a large
+ * network, queues a single computation.
+ */
+@ApplicationScoped
+public class ReachabilityIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(ReachabilityIndex.class.getName());
+
+    private GraphDao dao;
+    private SearchPool searchPool;
+    private ManagedExecutorService executorService;
+    private SearchClock clock;
+
+    private volatile ReachabilityMatrix matrix;
+    // Set while a computation is queued, so that a burst of changes queues only one.
+    private final AtomicBoolean queued = new AtomicBoolean();
+
+    // No-arg constructor required by CDI
+    public ReachabilityIndex() {
+    }
+
+    @Inject
+    public ReachabilityIndex(
+            GraphDao dao,
+            SearchPool searchPool,
+            ManagedExecutorService executorService,
+            SearchClock clock) {
+        this.dao = dao;
+        this.searchPool = searchPool;
+        this.executorService = executorService;
+        this.clock = clock;
+    }
+
+    /**
+     * Observes the startup after the sample data is loaded, so the first matrix is not computed
+     * from an empty network.
+     */
+    public void init(@Observes @Priority(Interceptor.Priority.LIBRARY_AFTER) Startup startup) {
+        executorService.execute(this::compute);
+        // The concurrency schedule requires a manual call to start up scheduled task.
+        this.recompute();
+    }
+
+    @Asynchronous(runAt = @Schedule(cron = "*/10 * * * *"))
+    public void recompute() {
+        compute();
+    }
+
+    /**
+     * Observes the change after {@link GraphDao} has patched the timetable.
+     */
+    public void onScheduleChanged(
+            @Observes @Priority(Interceptor.Priority.LIBRARY_AFTER) ScheduleChange change) {
+        if (queued.compareAndSet(false, true)) {
+            executorService.execute(
+                    () -> {
+                        // Changes from now on need another computation.
+                        queued.set(false);
+                        compute();
+                    });
+        }
+    }
+
+    /**
+     * @return The matrix of the current timetable, or null if it is not computed yet.
+     */
+    @Nullable
+    public ReachabilityMatrix getMatrix() {
+        ReachabilityMatrix result = matrix;
+        // A matrix of a timetable since patched or refreshed is stale.
+        return result != null && result.timetable() == dao.getTimetable() ? result : null;
+    }
+
+    // Concurrent requests compute one after the other, the last one from the latest timetable.
+    synchronized void compute() {
+        long start = System.nanoTime();
+        Timetable timetable = dao.getTimetable();
+        matrix = ReachabilityMatrix.compute(timetable, clock.now(), searchPool);
+        LOGGER.log(
+                Level.FINE,
+                "Reachability of {0} stops computed in {1} ms",
+                new Object[]{timetable.stopCount(), (System.nanoTime() - start) / 1_000_000});
+    }
+}
@@ -0,0 +1,94 @@
+package org.eclipse.pathfinder.internal;
+
+import jakarta.annotation.Nullable;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Earliest arrival at every stop of a {@link Timetable} from every other one, leaving at a given
+ * time. It tells at once which destinations can be reached from an origin at all and the first
+ * day a cargo can arrive there, without searching.
+ *
+ * <p>Every row is an earliest arrival scan of the whole timetable from one origin. The rows are
+ * independent and computed in parallel on the {@link SearchPool}. The matrix is immutable and tied
+ * to the timetable it was computed from.
+ */
+public final class ReachabilityMatrix {
+
+    private final Timetable timetable;
+    private final LocalDateTime departureTime;
+    // Earliest arrival minutes, by origin then destination stop index.
+    private final int[][] earliestArrivals;
+
+    private ReachabilityMatrix(
+            Timetable timetable, LocalDateTime departureTime, int[][] earliestArrivals) {
+        this.timetable = timetable;
+        this.departureTime = departureTime;
+        this.earliestArrivals = earliestArrivals;
+    }
+
+    /**
+     * @param departureTime cargos can not leave their origin before this time
+     */
+    public static ReachabilityMatrix compute(
+            Timetable timetable, LocalDateTime departureTime, SearchPool searchPool) {
+        int departureMinute = Timetable.ceilingEpochMinute(departureTime);
+        ConnectionScan scan = new ConnectionScan(timetable);
+        List<int[]> rows =
+                searchPool.invokeAll(
+                        timetable.stopCount(),
+                        origin -> scan.findEarliestArrivals(origin, departureMinute));
+        return new ReachabilityMatrix(timetable, departureTime, rows.toArray(int[][]::new));
+    }
+
+    public Timetable timetable() {
+        return timetable;
+    }
+
+    public LocalDateTime departureTime() {
+        return departureTime;
+    }
+
+    /**
+     * @return The earliest arrival at the destination, or null if it can not be reached from the
+     * origin, or if either is not a stop of the timetable.
+     */
+    @Nullable
+    public LocalDateTime findEarliestArrival(String originUnLocode, String destinationUnLocode) {
+        int origin = timetable.indexOfStop(originUnLocode);
+        int destination = timetable.indexOfStop(destinationUnLocode);
+
+        if (origin < 0 || destination < 0 || origin == destination) {
+            return null;
+        }
+
+        int arrival = earliestArrivals[origin][destination];
+        return arrival == ConnectionScan.UNREACHED ? null : Timetable.ofEpochMinute(arrival);
+    }
+
+    /**
+     * @return The earliest arrival at every destination reachable from the origin, by UN location
+     * code. Empty if the origin is not a stop of the timetable.
+     */
+    public Map<String, LocalDateTime> findEarliestArrivals(String originUnLocode) {
+        int origin = timetable.indexOfStop(originUnLocode);
+        if (origin < 0) {
+            return Map.of();
+        }
+
+        Map<String, LocalDateTime> result = new LinkedHashMap<>();
+        int[] arrivals = earliestArrivals[origin];
+        for (int destination = 0; destination < arrivals.length; destination++) {
+            if (destination != origin && arrivals[destination] != ConnectionScan.UNREACHED) {
+                result.put(
+                        timetable.stop(destination),
+                        Timetable.ofEpochMinute(arrivals[destination]));
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+}
@@ -0,0 +1,52 @@
+package org.eclipse.pathfinder.internal;
+
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.LocalDateTime;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Time the searches depart at, the current time unless a fixed departure time is configured.
+ *
+ * <p>With a fixed departure time, the path-finder runs in a deterministic mode: searches over the
+ * same network always return the same paths, whenever they run, so that benchmarks and regression
+ * tests can be reproduced.
+ */
+@ApplicationScoped
+public class SearchClock {
+
+    private static final Logger LOGGER = Logger.getLogger(SearchClock.class.getName());
+
+    private static final String CURRENT_TIME = "now";
+
+    // ISO local date-time, "now" for the current time. An env-entry needs a value to be bound.
+    @Resource(lookup = "java:app/configuration/GraphTraversalDepartureTime")
+    private String departureTime;
+
+    private LocalDateTime fixedDepartureTime;
+
+    @PostConstruct
+    public void init() {
+        if (!isCurrentTime(departureTime)) {
+            fixedDepartureTime = LocalDateTime.parse(departureTime.strip());
+            LOGGER.log(
+                    Level.INFO,
+                    "Deterministic mode, all searches depart at {0}",
+                    fixedDepartureTime);
+        }
+    }
+
+    public LocalDateTime now() {
+        return fixedDepartureTime != null ? fixedDepartureTime : LocalDateTime.now();
+    }
+
+    private static boolean isCurrentTime(@Nullable String departureTime) {
+        return departureTime == null
+                || departureTime.isBlank()
+                || CURRENT_TIME.equalsIgnoreCase(departureTime.strip());
+    }
+}
@@ -0,0 +1,41 @@
+package org.eclipse.pathfinder.internal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Runs batches of independent path searches in parallel. The searches only read an immutable
+ * {@link Timetable}, so they are split over a fork-join pool of their own, sized to the available
+ * processors, rather than over the common pool shared with the rest of the server.
+ */
+@ApplicationScoped
+public class SearchPool {
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void init() {
+        this.pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * @param count  number of searches
+     * @param search runs the search of the given index
+     * @return The results of the searches, in index order.
+     */
+    public <R> List<R> invokeAll(int count, IntFunction<R> search) {
+        return pool.submit(() -> IntStream.range(0, count).parallel().mapToObj(search).toList())
+                .join();
+    }
+}
@@ -0,0 +1,447 @@
+package org.eclipse.pathfinder.internal;
+
+import org.eclipse.pathfinder.api.TransitEdge;
+
+import java.nio.IntBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The time-expanded routing network. Every stop (UN location code) and every trip (voyage number)
+ * is interned to an index, and the connections are kept as int columns sorted by departure time,
+ * which is the layout the connection scan works on. The connections are also indexed by trip and
+ * by departure stop for the round-based search, as compressed sparse rows: the entries of row r
+ * are at [offsets[r], offsets[r + 1]).
+ *
+ * <p>Times are kept in minutes since the epoch, as schedules are not published to the second. The
+ * columns are either on the heap or mapped from a {@link TimetableSnapshot}.
+ *
+ * <p>A timetable is immutable once built, so it can be shared freely between concurrent searches.
+ */
+public final class Timetable {
+
+    public static final Timetable EMPTY = new Builder().build();
+
+    private final String[] stops;
+    private final Map<String, Integer> stopIndexes;
+    private final String[] trips;
+
+    // Connections, sorted by departure time.
+    final IntBuffer connectionTrips;
+    final IntBuffer departureStops;
+    final IntBuffer arrivalStops;
+    final IntBuffer departureMinutes;
+    final IntBuffer arrivalMinutes;
+    // Connections of every trip, in travel order, and the position of every connection within
+    // its trip.
+    final IntBuffer tripOffsets;
+    final IntBuffer tripConnections;
+    final IntBuffer tripPositions;
+    // Connections departing from every stop, by departure time.
+    final IntBuffer stopOffsets;
+    final IntBuffer stopDepartures;
+
+    Timetable(
+            String[] stops,
+            String[] trips,
+            IntBuffer connectionTrips,
+            IntBuffer departureStops,
+            IntBuffer arrivalStops,
+            IntBuffer departureMinutes,
+            IntBuffer arrivalMinutes,
+            IntBuffer tripOffsets,
+            IntBuffer tripConnections,
+            IntBuffer tripPositions,
+            IntBuffer stopOffsets,
+            IntBuffer stopDepartures) {
+        this.stops = stops;
+        this.trips = trips;
+        this.connectionTrips = connectionTrips;
+        this.departureStops = departureStops;
+        this.arrivalStops = arrivalStops;
+        this.departureMinutes = departureMinutes;
+        this.arrivalMinutes = arrivalMinutes;
+        this.tripOffsets = tripOffsets;
+        this.tripConnections = tripConnections;
+        this.tripPositions = tripPositions;
+        this.stopOffsets = stopOffsets;
+        this.stopDepartures = stopDepartures;
+        this.stopIndexes = new HashMap<>();
+        for (int i = 0; i < stops.length; i++) {
+            this.stopIndexes.put(stops[i], i);
+        }
+    }
+
+    public int stopCount() {
+        return stops.length;
+    }
+
+    public int tripCount() {
+        return trips.length;
+    }
+
+    public int connectionCount() {
+        return connectionTrips.limit();
+    }
+
+    /**
+     * @return The index of the given UN location code, or -1 if the stop is not served by any
+     * voyage.
+     */
+    public int indexOfStop(String unLocode) {
+        return stopIndexes.getOrDefault(unLocode, -1);
+    }
+
+    public String stop(int index) {
+        return stops[index];
+    }
+
+    public List<String> stops() {
+        return List.of(stops);
+    }
+
+    public String trip(int index) {
+        return trips[index];
+    }
+
+    public int connectionTrip(int index) {
+        return connectionTrips.get(index);
+    }
+
+    public int departureStop(int index) {
+        return departureStops.get(index);
+    }
+
+    public int arrivalStop(int index) {
+        return arrivalStops.get(index);
+    }
+
+    public int departureMinute(int index) {
+        return departureMinutes.get(index);
+    }
+
+    public int arrivalMinute(int index) {
+        return arrivalMinutes.get(index);
+    }
+
+    /**
+     * @return A view of the given connection, meant for building results, searches should use the
+     * primitive accessors.
+     */
+    public Connection connection(int index) {
+        return new Connection(
+                connectionTrips.get(index),
+                departureStops.get(index),
+                arrivalStops.get(index),
+                ofEpochMinute(departureMinutes.get(index)),
+                ofEpochMinute(arrivalMinutes.get(index)));
+    }
+
+    /**
+     * @return The number of connections of the given trip.
+     */
+    public int tripLength(int trip) {
+        return tripOffsets.get(trip + 1) - tripOffsets.get(trip);
+    }
+
+    /**
+     * @return The index of the connection at the given position of the given trip, in travel
+     * order.
+     */
+    public int tripConnection(int trip, int position) {
+        return tripConnections.get(tripOffsets.get(trip) + position);
+    }
+
+    /**
+     * @return The position of the given connection within its trip.
+     */
+    public int tripPosition(int connection) {
+        return tripPositions.get(connection);
+    }
+
+    /**
+     * @return The number of connections departing from the given stop.
+     */
+    public int departureCount(int stop) {
+        return stopOffsets.get(stop + 1) - stopOffsets.get(stop);
+    }
+
+    /**
+     * @return The index of the k-th connection departing from the given stop, by departure time.
+     */
+    public int departure(int stop, int k) {
+        return stopDepartures.get(stopOffsets.get(stop) + k);
+    }
+
+    /**
+     * @return The index of the first connection departing at or after the given time, or
+     * {@link #connectionCount()} if there is none.
+     */
+    public int firstConnectionDepartingFrom(LocalDateTime time) {
+        return firstConnectionDepartingFrom(ceilingEpochMinute(time));
+    }
+
+    /**
+     * @return The index of the first connection departing at or after the given minute, or
+     * {@link #connectionCount()} if there is none.
+     */
+    public int firstConnectionDepartingFrom(int minute) {
+        int low = 0;
+        int high = connectionCount();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (departureMinutes.get(middle) < minute) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Replaces the connections of one voyage, leaving this timetable as is. The connections of the
+     * other voyages are already sorted, so the new ones are merged into them instead of sorting
+     * and reading the whole network again.
+     *
+     * @param voyageNumber voyage added, retimed or cancelled
+     * @param movements    the carrier movements of the voyage, none if it is cancelled
+     * @return A new timetable with the given connections for the voyage.
+     */
+    public Timetable withTrip(String voyageNumber, List<TransitEdge> movements) {
+        List<String> newStops = new ArrayList<>(List.of(stops));
+        Map<String, Integer> newStopIndexes = new HashMap<>(stopIndexes);
+        List<String> newTrips = new ArrayList<>(List.of(trips));
+        Map<String, Integer> tripIndexes = new HashMap<>();
+        for (int i = 0; i < trips.length; i++) {
+            tripIndexes.put(trips[i], i);
+        }
+        int trip = intern(voyageNumber, newTrips, tripIndexes);
+
+        List<Connection> added =
+                movements.stream()
+                        .map(
+                                movement ->
+                                        new Connection(
+                                                trip,
+                                                intern(
+                                                        movement.fromUnLocode(),
+                                                        newStops,
+                                                        newStopIndexes),
+                                                intern(
+                                                        movement.toUnLocode(),
+                                                        newStops,
+                                                        newStopIndexes),
+                                                movement.fromDate().truncatedTo(ChronoUnit.MINUTES),
+                                                movement.toDate().truncatedTo(ChronoUnit.MINUTES)))
+                        .sorted(Builder.BY_DEPARTURE)
+                        .toList();
+
+        int count = connectionCount();
+        int size = count - (trip < trips.length ? tripLength(trip) : 0) + added.size();
+        int[] newConnectionTrips = new int[size];
+        int[] newDepartureStops = new int[size];
+        int[] newArrivalStops = new int[size];
+        int[] newDepartureMinutes = new int[size];
+        int[] newArrivalMinutes = new int[size];
+
+        int current = 0;
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            while (current < count && connectionTrips.get(current) == trip) {
+                current++;
+            }
+            Connection connection = next < added.size() ? added.get(next) : null;
+            int departure =
+                    connection == null ? 0 : ceilingEpochMinute(connection.departureTime());
+            int arrival = connection == null ? 0 : ceilingEpochMinute(connection.arrivalTime());
+
+            if (connection == null
+                    || current < count
+                    && isNotAfter(
+                            departureMinutes.get(current),
+                            arrivalMinutes.get(current),
+                            departure,
+                            arrival)) {
+                newConnectionTrips[i] = connectionTrips.get(current);
+                newDepartureStops[i] = departureStops.get(current);
+                newArrivalStops[i] = arrivalStops.get(current);
+                newDepartureMinutes[i] = departureMinutes.get(current);
+                newArrivalMinutes[i] = arrivalMinutes.get(current);
+                current++;
+            } else {
+                newConnectionTrips[i] = trip;
+                newDepartureStops[i] = connection.departureStop();
+                newArrivalStops[i] = connection.arrivalStop();
+                newDepartureMinutes[i] = departure;
+                newArrivalMinutes[i] = arrival;
+                next++;
+            }
+        }
+
+        return index(
+                newStops.toArray(new String[0]),
+                newTrips.toArray(new String[0]),
+                newConnectionTrips,
+                newDepartureStops,
+                newArrivalStops,
+                newDepartureMinutes,
+                newArrivalMinutes);
+    }
+
+    private static boolean isNotAfter(
+            int departure, int arrival, int otherDeparture, int otherArrival) {
+        return departure < otherDeparture
+                || (departure == otherDeparture && arrival <= otherArrival);
+    }
+
+    /**
+     * Connections are on whole minutes, so a connection departs at or after a time, or arrives
+     * before it, exactly when it does so for the next whole minute. Times beyond the range of the
+     * timetable are clamped, so that {@link LocalDateTime#MAX} is still an open bound.
+     */
+    public static int ceilingEpochMinute(LocalDateTime time) {
+        long seconds = time.toEpochSecond(ZoneOffset.UTC) + (time.getNano() > 0 ? 1 : 0);
+        return Math.clamp(Math.ceilDiv(seconds, 60), Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    public static LocalDateTime ofEpochMinute(int minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60L, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Indexes connections sorted by departure time by trip and by departure stop.
+     */
+    private static Timetable index(
+            String[] stops,
+            String[] trips,
+            int[] connectionTrips,
+            int[] departureStops,
+            int[] arrivalStops,
+            int[] departureMinutes,
+            int[] arrivalMinutes) {
+        int size = connectionTrips.length;
+
+        // Connections are sorted by departure, so the rows are filled in travel order.
+        int[] tripOffsets = offsets(connectionTrips, trips.length);
+        int[] tripConnections = new int[size];
+        int[] tripPositions = new int[size];
+        int[] stopOffsets = offsets(departureStops, stops.length);
+        int[] stopDepartures = new int[size];
+        int[] tripFill = new int[trips.length];
+        int[] stopFill = new int[stops.length];
+        for (int i = 0; i < size; i++) {
+            int trip = connectionTrips[i];
+            int stop = departureStops[i];
+            tripPositions[i] = tripFill[trip];
+            tripConnections[tripOffsets[trip] + tripFill[trip]++] = i;
+            stopDepartures[stopOffsets[stop] + stopFill[stop]++] = i;
+        }
+
+        return new Timetable(
+                stops,
+                trips,
+                IntBuffer.wrap(connectionTrips),
+                IntBuffer.wrap(departureStops),
+                IntBuffer.wrap(arrivalStops),
+                IntBuffer.wrap(departureMinutes),
+                IntBuffer.wrap(arrivalMinutes),
+                IntBuffer.wrap(tripOffsets),
+                IntBuffer.wrap(tripConnections),
+                IntBuffer.wrap(tripPositions),
+                IntBuffer.wrap(stopOffsets),
+                IntBuffer.wrap(stopDepartures));
+    }
+
+    private static int[] offsets(int[] rows, int rowCount) {
+        int[] offsets = new int[rowCount + 1];
+        for (int row : rows) {
+            offsets[row + 1]++;
+        }
+        Arrays.parallelPrefix(offsets, Integer::sum);
+        return offsets;
+    }
+
+    private static int intern(String key, List<String> values, Map<String, Integer> indexes) {
+        Objects.requireNonNull(key, "Key is required");
+        return indexes.computeIfAbsent(
+                key,
+                k -> {
+                    values.add(k);
+                    return values.size() - 1;
+                });
+    }
+
+    /**
+     * Incremental construction of a timetable from the carrier movements of the voyages.
+     */
+    public static class Builder {
+
+        private static final Comparator<Connection> BY_DEPARTURE =
+                Comparator.comparing(Connection::departureTime)
+                        .thenComparing(Connection::arrivalTime);
+
+        private final List<String> stops = new ArrayList<>();
+        private final Map<String, Integer> stopIndexes = new HashMap<>();
+        private final List<String> trips = new ArrayList<>();
+        private final Map<String, Integer> tripIndexes = new HashMap<>();
+        private final List<Connection> connections = new ArrayList<>();
+
+        public Builder addMovement(
+                String voyageNumber,
+                String departureUnLocode,
+                String arrivalUnLocode,
+                LocalDateTime departureTime,
+                LocalDateTime arrivalTime) {
+            Objects.requireNonNull(voyageNumber, "Voyage number is required");
+            Objects.requireNonNull(departureTime, "Departure time is required");
+            Objects.requireNonNull(arrivalTime, "Arrival time is required");
+
+            connections.add(
+                    new Connection(
+                            intern(voyageNumber, trips, tripIndexes),
+                            intern(departureUnLocode, stops, stopIndexes),
+                            intern(arrivalUnLocode, stops, stopIndexes),
+                            departureTime.truncatedTo(ChronoUnit.MINUTES),
+                            arrivalTime.truncatedTo(ChronoUnit.MINUTES)));
+            return this;
+        }
+
+        public Timetable build() {
+            List<Connection> sorted = new ArrayList<>(connections);
+            sorted.sort(BY_DEPARTURE);
+
+            int size = sorted.size();
+            int[] connectionTrips = new int[size];
+            int[] departureStops = new int[size];
+            int[] arrivalStops = new int[size];
+            int[] departureMinutes = new int[size];
+            int[] arrivalMinutes = new int[size];
+            for (int i = 0; i < size; i++) {
+                Connection connection = sorted.get(i);
+                connectionTrips[i] = connection.trip();
+                departureStops[i] = connection.departureStop();
+                arrivalStops[i] = connection.arrivalStop();
+                departureMinutes[i] = ceilingEpochMinute(connection.departureTime());
+                arrivalMinutes[i] = ceilingEpochMinute(connection.arrivalTime());
+            }
+
+            return index(
+                    stops.toArray(new String[0]),
+                    trips.toArray(new String[0]),
+                    connectionTrips,
+                    departureStops,
+                    arrivalStops,
+                    departureMinutes,
+                    arrivalMinutes);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package org.eclipse.pathfinder.internal;
+
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Binary file format of a {@link Timetable}, memory-mapped read-only when loaded so that the
+ * columns are not copied to the heap and several JVMs share one copy through the page cache.
+ *
+ * <p>The file starts with a header of eight ints: magic, format version, fingerprint of the
+ * schedules it was built from, number of stops, trips and connections, and the byte lengths of the
+ * stop and trip names. The int columns of the timetable follow in a fixed order, then the UTF-8
+ * stop and trip names, each a compressed sparse row of bytes with its offsets stored as the first
+ * two columns.
+ *
+ * <p>A snapshot is replaced atomically, mapped readers keep the previous file until they are done
+ * with it.
+ */
+public final class TimetableSnapshot {
+
+    private static final Logger LOGGER = Logger.getLogger(TimetableSnapshot.class.getName());
+
+    private static final int MAGIC = 0x43544753; // "CTGS"
+    private static final int VERSION = 1;
+    private static final int HEADER_INTS = 8;
+
+    private TimetableSnapshot() {
+    }
+
+    /**
+     * Writes the timetable to the given file, replacing any previous snapshot.
+     *
+     * @param fingerprint identifies the schedules the timetable was built from
+     */
+    public static void write(Timetable timetable, int fingerprint, Path file) throws IOException {
+        byte[][] stopNames = encode(timetable.stops());
+        byte[][] tripNames =
+                encode(IntStream.range(0, timetable.tripCount()).mapToObj(timetable::trip).toList());
+
+        List<IntBuffer> columns = columns(timetable, stopNames, tripNames);
+        int stopNameBytes = totalLength(stopNames);
+        int tripNameBytes = totalLength(tripNames);
+
+        int size = HEADER_INTS * Integer.BYTES + stopNameBytes + tripNameBytes;
+        for (IntBuffer column : columns) {
+            size += column.limit() * Integer.BYTES;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(fingerprint)
+                .putInt(timetable.stopCount())
+                .putInt(timetable.tripCount())
+                .putInt(timetable.connectionCount())
+                .putInt(stopNameBytes)
+                .putInt(tripNameBytes);
+        for (IntBuffer column : columns) {
+            for (int i = 0; i < column.limit(); i++) {
+                buffer.putInt(column.get(i));
+            }
+        }
+        for (byte[] name : stopNames) {
+            buffer.put(name);
+        }
+        for (byte[] name : tripNames) {
+            buffer.put(name);
+        }
+        buffer.flip();
+
+        Path directory = Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temporary = Files.createTempFile(directory, "timetable", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            Files.move(
+                    temporary,
+                    file,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * @param fingerprint identifies the current schedules
+     * @return The timetable mapped from the given file, or null if there is no usable snapshot of
+     * the current schedules.
+     */
+    @Nullable
+    public static Timetable read(Path file, int fingerprint) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < HEADER_INTS * Integer.BYTES
+                    || buffer.getInt(0) != MAGIC
+                    || buffer.getInt(4) != VERSION) {
+                LOGGER.log(Level.WARNING, "Ignoring unknown timetable snapshot format: {0}", file);
+                return null;
+            }
+            if (buffer.getInt(8) != fingerprint) {
+                LOGGER.log(Level.INFO, "Timetable snapshot is out of date: {0}", file);
+                return null;
+            }
+            return map(buffer);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Unable to read the timetable snapshot " + file, e);
+            return null;
+        }
+    }
+
+    private static Timetable map(ByteBuffer buffer) {
+        int stopCount = buffer.getInt(12);
+        int tripCount = buffer.getInt(16);
+        int connectionCount = buffer.getInt(20);
+        int stopNameBytes = buffer.getInt(24);
+        int tripNameBytes = buffer.getInt(28);
+
+        Columns columns = new Columns(buffer, HEADER_INTS * Integer.BYTES);
+        IntBuffer stopNameOffsets = columns.next(stopCount + 1);
+        IntBuffer tripNameOffsets = columns.next(tripCount + 1);
+        IntBuffer connectionTrips = columns.next(connectionCount);
+        IntBuffer departureStops = columns.next(connectionCount);
+        IntBuffer arrivalStops = columns.next(connectionCount);
+        IntBuffer departureMinutes = columns.next(connectionCount);
+        IntBuffer arrivalMinutes = columns.next(connectionCount);
+        IntBuffer tripOffsets = columns.next(tripCount + 1);
+        IntBuffer tripConnections = columns.next(connectionCount);
+        IntBuffer tripPositions = columns.next(connectionCount);
+        IntBuffer stopOffsets = columns.next(stopCount + 1);
+        IntBuffer stopDepartures = columns.next(connectionCount);
+
+        int namesPosition = columns.position;
+        String[] stops = decode(buffer, namesPosition, stopNameOffsets, stopCount);
+        String[] trips = decode(buffer, namesPosition + stopNameBytes, tripNameOffsets, tripCount);
+        if (namesPosition + stopNameBytes + tripNameBytes != buffer.capacity()) {
+            throw new IllegalStateException("Timetable snapshot has an unexpected size");
+        }
+
+        return new Timetable(
+                stops,
+                trips,
+                connectionTrips,
+                departureStops,
+                arrivalStops,
+                departureMinutes,
+                arrivalMinutes,
+                tripOffsets,
+                tripConnections,
+                tripPositions,
+                stopOffsets,
+                stopDepartures);
+    }
+
+    private static List<IntBuffer> columns(
+            Timetable timetable, byte[][] stopNames, byte[][] tripNames) {
+        return List.of(
+                IntBuffer.wrap(nameOffsets(stopNames)),
+                IntBuffer.wrap(nameOffsets(tripNames)),
+                timetable.connectionTrips,
+                timetable.departureStops,
+                timetable.arrivalStops,
+                timetable.departureMinutes,
+                timetable.arrivalMinutes,
+                timetable.tripOffsets,
+                timetable.tripConnections,
+                timetable.tripPositions,
+                timetable.stopOffsets,
+                timetable.stopDepartures);
+    }
+
+    private static byte[][] encode(List<String> values) {
+        byte[][] encoded = new byte[values.size()][];
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = values.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+        return encoded;
+    }
+
+    private static String[] decode(ByteBuffer buffer, int position, IntBuffer offsets, int count) {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[offsets.get(i + 1) - offsets.get(i)];
+            buffer.get(position + offsets.get(i), bytes);
+            values[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return values;
+    }
+
+    private static int[] nameOffsets(byte[][] names) {
+        int[] offsets = new int[names.length + 1];
+        for (int i = 0; i < names.length; i++) {
+            offsets[i + 1] = offsets[i] + names[i].length;
+        }
+        return offsets;
+    }
+
+    private static int totalLength(byte[][] names) {
+        int length = 0;
+        for (byte[] name : names) {
+            length += name.length;
+        }
+        return length;
+    }
+
+    /**
+     * Consecutive int columns of a mapped buffer.
+     */
+    private static final class Columns {
+
+        private final ByteBuffer buffer;
+        private int position;
+
+        Columns(ByteBuffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        IntBuffer next(int length) {
+            IntBuffer column = buffer.slice(position, length * Integer.BYTES).asIntBuffer();
+            position += length * Integer.BYTES;
+            return column;
+        }
+    }
+}
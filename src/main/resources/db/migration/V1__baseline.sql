@@ -0,0 +1,99 @@
+-- Schema of the application as the persistence providers generated it before the migrations,
+-- a database generated that way is baselined at this version instead.
+
+CREATE TABLE locations (
+    id        BIGINT NOT NULL,
+    un_locode VARCHAR(255),
+    name      VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE voyages (
+    id            BIGINT NOT NULL,
+    voyage_number VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE carrier_movements (
+    id                    BIGINT NOT NULL,
+    departure_location_id BIGINT,
+    arrival_location_id   BIGINT,
+    departure_time        TIMESTAMP(0),
+    arrival_time          TIMESTAMP(0),
+    voyage_id             BIGINT,
+    cm_index              INTEGER,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_carrier_movements_departure_location
+        FOREIGN KEY (departure_location_id) REFERENCES locations (id),
+    CONSTRAINT fk_carrier_movements_arrival_location
+        FOREIGN KEY (arrival_location_id) REFERENCES locations (id),
+    CONSTRAINT fk_carrier_movements_voyage FOREIGN KEY (voyage_id) REFERENCES voyages (id)
+);
+
+CREATE TABLE cargos (
+    id                                BIGINT NOT NULL,
+    tracking_id                       VARCHAR(255),
+    origin_id                         BIGINT,
+    spec_origin_id                    BIGINT,
+    spec_destination_id               BIGINT,
+    spec_arrival_deadline             DATE,
+    transport_status                  VARCHAR(255),
+    last_known_location_id            BIGINT,
+    current_voyage_id                 BIGINT,
+    misdirected                       BOOLEAN,
+    eta                               TIMESTAMP(0),
+    next_expected_handling_event_type VARCHAR(255),
+    next_expected_location_id         BIGINT,
+    next_expected_voyage_id           BIGINT,
+    unloaded_at_dest                  BOOLEAN,
+    routing_status                    VARCHAR(255),
+    calculated_at                     TIMESTAMP(0),
+    last_event_id                     BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_cargos_tracking_id UNIQUE (tracking_id),
+    CONSTRAINT fk_cargos_origin FOREIGN KEY (origin_id) REFERENCES locations (id),
+    CONSTRAINT fk_cargos_spec_origin FOREIGN KEY (spec_origin_id) REFERENCES locations (id),
+    CONSTRAINT fk_cargos_spec_destination
+        FOREIGN KEY (spec_destination_id) REFERENCES locations (id),
+    CONSTRAINT fk_cargos_last_known_location
+        FOREIGN KEY (last_known_location_id) REFERENCES locations (id),
+    CONSTRAINT fk_cargos_current_voyage FOREIGN KEY (current_voyage_id) REFERENCES voyages (id),
+    CONSTRAINT fk_cargos_next_expected_location
+        FOREIGN KEY (next_expected_location_id) REFERENCES locations (id),
+    CONSTRAINT fk_cargos_next_expected_voyage
+        FOREIGN KEY (next_expected_voyage_id) REFERENCES voyages (id)
+);
+
+CREATE TABLE legs (
+    id                 BIGINT NOT NULL,
+    voyage_id          BIGINT,
+    load_location_id   BIGINT,
+    unload_location_id BIGINT,
+    load_time          TIMESTAMP(0),
+    unload_time        TIMESTAMP(0),
+    cargo_id           BIGINT,
+    leg_index          INTEGER,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_legs_voyage FOREIGN KEY (voyage_id) REFERENCES voyages (id),
+    CONSTRAINT fk_legs_load_location FOREIGN KEY (load_location_id) REFERENCES locations (id),
+    CONSTRAINT fk_legs_unload_location FOREIGN KEY (unload_location_id) REFERENCES locations (id),
+    CONSTRAINT fk_legs_cargo FOREIGN KEY (cargo_id) REFERENCES cargos (id)
+);
+
+CREATE TABLE handling_events (
+    id                BIGINT NOT NULL,
+    type              VARCHAR(255),
+    voyage_id         BIGINT,
+    location_id       BIGINT,
+    completion_time   TIMESTAMP(0),
+    registration_time TIMESTAMP(0),
+    cargo_id          BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_handling_events_voyage FOREIGN KEY (voyage_id) REFERENCES voyages (id),
+    CONSTRAINT fk_handling_events_location FOREIGN KEY (location_id) REFERENCES locations (id),
+    CONSTRAINT fk_handling_events_cargo FOREIGN KEY (cargo_id) REFERENCES cargos (id)
+);
+
+-- The last event of a cargo and the events of a cargo refer to each other.
+ALTER TABLE cargos
+    ADD CONSTRAINT fk_cargos_last_event FOREIGN KEY (last_event_id) REFERENCES handling_events (id);
@@ -0,0 +1,17 @@
+-- One sequence per table, its increment the allocation size of the identifier generators of the
+-- entities. Identifiers were generated by provider specific means before, the sequences start
+-- after the identifiers already in use.
+
+CREATE SEQUENCE IF NOT EXISTS locations_seq START WITH 50 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS voyages_seq START WITH 50 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS carrier_movements_seq START WITH 50 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS cargos_seq START WITH 50 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS legs_seq START WITH 50 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS handling_events_seq START WITH 50 INCREMENT BY 50;
+
+SELECT setval('locations_seq', (SELECT coalesce(max(id), 0) + 50 FROM locations));
+SELECT setval('voyages_seq', (SELECT coalesce(max(id), 0) + 50 FROM voyages));
+SELECT setval('carrier_movements_seq', (SELECT coalesce(max(id), 0) + 50 FROM carrier_movements));
+SELECT setval('cargos_seq', (SELECT coalesce(max(id), 0) + 50 FROM cargos));
+SELECT setval('legs_seq', (SELECT coalesce(max(id), 0) + 50 FROM legs));
+SELECT setval('handling_events_seq', (SELECT coalesce(max(id), 0) + 50 FROM handling_events));
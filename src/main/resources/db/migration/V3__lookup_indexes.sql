@@ -0,0 +1,40 @@
+-- Indexes of the foreign keys the aggregates are read by, and of the natural keys of the
+-- reference data. PostgreSQL only indexes primary keys and unique constraints by itself.
+
+-- The handling history of a cargo, and its most recently completed event read from the end of the
+-- index. Lookups by cargo alone use its leading column.
+CREATE INDEX IF NOT EXISTS handling_events_cargo_completion
+    ON handling_events (cargo_id, completion_time);
+
+-- The legs of the itinerary of a cargo.
+CREATE INDEX IF NOT EXISTS legs_cargo ON legs (cargo_id);
+
+-- The schedule of a voyage.
+CREATE INDEX IF NOT EXISTS carrier_movements_voyage ON carrier_movements (voyage_id);
+
+-- Locations by UN location code and voyages by voyage number, both unique.
+--
+-- Precondition: no two locations share a UN location code and no two voyages a voyage number.
+-- The application never stores such duplicates, only a database edited by hand can hold them.
+-- They are not merged here, as cargos, legs, handling events and carrier movements may refer to
+-- either of them: merge them by hand and migrate again, the migration stops naming them otherwise.
+DO $$
+DECLARE
+    duplicates TEXT;
+BEGIN
+    SELECT string_agg(un_locode, ', ') INTO duplicates
+    FROM (SELECT un_locode FROM locations GROUP BY un_locode HAVING count(*) > 1) d;
+    IF duplicates IS NOT NULL THEN
+        RAISE EXCEPTION 'Locations share the UN location codes %, merge them first', duplicates;
+    END IF;
+
+    SELECT string_agg(voyage_number, ', ') INTO duplicates
+    FROM (SELECT voyage_number FROM voyages GROUP BY voyage_number HAVING count(*) > 1) d;
+    IF duplicates IS NOT NULL THEN
+        RAISE EXCEPTION 'Voyages share the voyage numbers %, merge them first', duplicates;
+    END IF;
+END
+$$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS locations_un_locode ON locations (un_locode);
+CREATE UNIQUE INDEX IF NOT EXISTS voyages_voyage_number ON voyages (voyage_number);
@@ -5,6 +5,8 @@ import org.eclipse.cargotracker.application.internal.DefaultBookingService;
 import org.eclipse.cargotracker.application.util.DateUtil;
 import org.eclipse.cargotracker.domain.model.cargo.Cargo;
 import org.eclipse.cargotracker.domain.model.cargo.CargoRepository;
+import org.eclipse.cargotracker.domain.model.cargo.CargoSummary;
+import org.eclipse.cargotracker.domain.model.cargo.CargoSummaryRepository;
 import org.eclipse.cargotracker.domain.model.cargo.Delivery;
 import org.eclipse.cargotracker.domain.model.cargo.DeliveryFactory;
 import org.eclipse.cargotracker.domain.model.cargo.HandlingActivity;
@@ -39,12 +41,22 @@ import org.eclipse.cargotracker.infrastructure.events.cdi.CargoInspected;
 import org.eclipse.cargotracker.infrastructure.logging.LoggerProducer;
 import org.eclipse.cargotracker.infrastructure.messaging.JMSResourcesSetup;
 import org.eclipse.cargotracker.infrastructure.persistence.DatabaseSetup;
+import org.eclipse.cargotracker.infrastructure.persistence.SchemaMigration;
 import org.eclipse.cargotracker.infrastructure.persistence.jpa.JpaCargoRepository;
+import org.eclipse.cargotracker.infrastructure.persistence.jpa.JpaCargoSummaryRepository;
 import org.eclipse.cargotracker.infrastructure.persistence.jpa.JpaHandlingEventRepository;
 import org.eclipse.cargotracker.infrastructure.persistence.jpa.JpaLocationRepository;
 import org.eclipse.cargotracker.infrastructure.persistence.jpa.JpaVoyageRepository;
+import org.eclipse.cargotracker.infrastructure.persistence.jpa.ReferenceDataCache;
 import org.eclipse.cargotracker.infrastructure.routing.ExternalRoutingService;
 import org.eclipse.pathfinder.api.GraphTraversalService;
+import org.eclipse.pathfinder.api.PathFinder;
+import org.eclipse.pathfinder.api.RouteQuery;
+import org.eclipse.pathfinder.api.ScheduleChange;
+import org.eclipse.pathfinder.api.SearchBudget;
+import org.eclipse.pathfinder.api.SearchMode;
+import org.eclipse.pathfinder.api.SearchResult;
+import org.eclipse.pathfinder.api.ShortestPathQuery;
 import org.eclipse.pathfinder.api.TransitEdge;
 import org.eclipse.pathfinder.api.TransitPath;
 import org.eclipse.pathfinder.internal.GraphDao;
@@ -82,11 +94,34 @@ public class Deployments {
     // Infrastructure layer components.
     // Add persistence/JPA components.
     public static void addInfraPersistence(WebArchive war) {
-        war.addClass(DatabaseSetup.class)
-                .addClass(JpaCargoRepository.class)
+        war.addClass(DatabaseSetup.class);
+        addJpaRepositories(war);
+    }
+
+    // The JPA repositories alone, on a data source defined by the test.
+    public static void addJpaRepositories(WebArchive war) {
+        war.addClass(JpaCargoRepository.class)
+                .addClass(JpaCargoSummaryRepository.class)
                 .addClass(JpaVoyageRepository.class)
                 .addClass(JpaHandlingEventRepository.class)
-                .addClass(JpaLocationRepository.class);
+                .addClass(JpaLocationRepository.class)
+                .addClass(ReferenceDataCache.class);
+    }
+
+    // Schema migrations, with Flyway and the migration scripts.
+    public static void addSchemaMigration(WebArchive war) {
+        File[] flywayJars =
+                Maven.resolver()
+                        .loadPomFromFile("pom.xml")
+                        .importCompileAndRuntimeDependencies()
+                        .resolve(
+                                "org.flywaydb:flyway-core",
+                                "org.flywaydb:flyway-database-postgresql")
+                        .withTransitivity()
+                        .asFile();
+        war.addClass(SchemaMigration.class)
+                .addAsLibraries(flywayJars)
+                .addAsResource("db/migration");
     }
 
     public static void addApplicationBase(WebArchive war) {
@@ -120,6 +155,7 @@ public class Deployments {
 
                 // cargo models
                 .addClass(Cargo.class)
+                .addClass(CargoSummary.class)
                 .addClass(Delivery.class)
                 .addClass(DeliveryFactory.class)
                 .addClass(HandlingActivity.class)
@@ -150,6 +186,7 @@ public class Deployments {
         war.addClass(HandlingEventFactory.class); // depends on repos
         // add repos
         war.addClass(CargoRepository.class)
+                .addClass(CargoSummaryRepository.class)
                 .addClass(LocationRepository.class)
                 .addClass(VoyageRepository.class)
                 .addClass(HandlingEventRepository.class);
@@ -160,10 +197,17 @@ public class Deployments {
     }
 
     public static void addGraphTraversalModels(WebArchive war) {
-        war.addClass(TransitPath.class).addClass(TransitEdge.class);
+        war.addClass(TransitPath.class).addClass(TransitEdge.class).addClass(RouteQuery.class);
     }
 
     public static void addGraphTraversalService(WebArchive war) {
-        war.addClass(GraphTraversalService.class).addClass(GraphDao.class);
+        war.addClass(GraphTraversalService.class)
+                .addClass(PathFinder.class)
+                .addClass(ScheduleChange.class)
+                .addClass(SearchBudget.class)
+                .addClass(SearchResult.class)
+                .addClass(SearchMode.class)
+                .addClass(ShortestPathQuery.class)
+                .addPackage(GraphDao.class.getPackage());
     }
 }
@@ -19,9 +19,18 @@ import org.eclipse.cargotracker.domain.model.location.UnLocode;
 import org.eclipse.cargotracker.domain.model.voyage.SampleVoyages;
 import org.eclipse.cargotracker.domain.model.voyage.Voyage;
 import org.eclipse.cargotracker.infrastructure.routing.ExternalRoutingService;
+import org.eclipse.cargotracker.infrastructure.routing.RouteCache;
+import org.eclipse.cargotracker.infrastructure.routing.RouteCacheMXBean;
 import org.eclipse.cargotracker.infrastructure.routing.client.GraphTraversalResourceClient;
 import org.eclipse.cargotracker.interfaces.RestActivator;
 import org.eclipse.pathfinder.api.GraphTraversalService;
+import org.eclipse.pathfinder.api.PathFinder;
+import org.eclipse.pathfinder.api.RouteQuery;
+import org.eclipse.pathfinder.api.ScheduleChange;
+import org.eclipse.pathfinder.api.SearchBudget;
+import org.eclipse.pathfinder.api.SearchMode;
+import org.eclipse.pathfinder.api.SearchResult;
+import org.eclipse.pathfinder.api.ShortestPathQuery;
 import org.eclipse.pathfinder.api.TransitEdge;
 import org.eclipse.pathfinder.api.TransitPath;
 import org.eclipse.pathfinder.internal.GraphDao;
@@ -95,15 +104,24 @@ public class BookingServiceIT {
 
         addDomainService(war);
         war.addClass(ExternalRoutingService.class)
-                .addClass(GraphTraversalResourceClient.class)
+                .addClass(RouteCache.class)
+                .addClass(RouteCacheMXBean.class)
+                .addPackage(GraphTraversalResourceClient.class.getPackage())
 
                 // .addClass(JsonMoxyConfigurationContextResolver.class)
                 // Interface components
                 .addClass(TransitPath.class)
                 .addClass(TransitEdge.class)
+                .addClass(RouteQuery.class)
                 // Third-party system simulator
                 .addClass(GraphTraversalService.class)
-                .addClass(GraphDao.class)
+                .addClass(PathFinder.class)
+                .addClass(ScheduleChange.class)
+                .addClass(SearchBudget.class)
+                .addClass(SearchResult.class)
+                .addClass(SearchMode.class)
+                .addClass(ShortestPathQuery.class)
+                .addPackage(GraphDao.class.getPackage())
                 // Sample data.
                 .addClass(BookingServiceTestDataGenerator.class)
                 .addClass(SampleLocations.class)
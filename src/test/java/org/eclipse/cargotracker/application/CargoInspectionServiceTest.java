@@ -10,7 +10,6 @@ import org.eclipse.cargotracker.domain.model.cargo.RouteSpecification;
 import org.eclipse.cargotracker.domain.model.cargo.TrackingId;
 import org.eclipse.cargotracker.domain.model.handling.HandlingEvent;
 import org.eclipse.cargotracker.domain.model.handling.HandlingEventRepository;
-import org.eclipse.cargotracker.domain.model.handling.HandlingHistory;
 import org.eclipse.cargotracker.domain.model.location.SampleLocations;
 import org.eclipse.cargotracker.domain.model.voyage.SampleVoyages;
 import org.junit.jupiter.api.AfterEach;
@@ -20,7 +19,6 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -74,8 +72,8 @@ public class CargoInspectionServiceTest {
                 RouteSpecification.of(SampleLocations.DALLAS, SampleLocations.HONGKONG, LocalDate.now())
         );
         when(cargoRepository.find(any(TrackingId.class))).thenReturn(cargo);
-        when(handlingEventRepository.lookupHandlingHistoryOfCargo(any(TrackingId.class)))
-                .thenReturn(new HandlingHistory(Collections.emptyList()));
+        when(handlingEventRepository.findMostRecentlyCompleted(any(TrackingId.class)))
+                .thenReturn(null);
         doNothing().when(applicationEvents).cargoWasMisdirected(any(Cargo.class));
         doNothing().when(applicationEvents).cargoHasArrived(any(Cargo.class));
         doNothing().when(cargoRepository).store(any(Cargo.class));
@@ -116,47 +114,15 @@ public class CargoInspectionServiceTest {
                 )
         );
         when(cargoRepository.find(any(TrackingId.class))).thenReturn(cargo);
-        when(handlingEventRepository.lookupHandlingHistoryOfCargo(any(TrackingId.class)))
+        when(handlingEventRepository.findMostRecentlyCompleted(any(TrackingId.class)))
                 .thenReturn(
-                        new HandlingHistory(
-                                List.of(
-                                        new HandlingEvent(
-                                                cargo,
-                                                LocalDateTime.now().minusDays(10),
-                                                LocalDateTime.now().minusDays(9),
-                                                HandlingEvent.Type.RECEIVE,
-                                                SampleLocations.DALLAS),
-                                        new HandlingEvent(
-                                                cargo,
-                                                LocalDateTime.now().minusDays(9),
-                                                LocalDateTime.now().minusDays(8),
-                                                HandlingEvent.Type.LOAD,
-                                                SampleLocations.DALLAS,
-                                                SampleVoyages.DALLAS_TO_HELSINKI),
-                                        new HandlingEvent(
-                                                cargo,
-                                                LocalDateTime.now().minusDays(8),
-                                                LocalDateTime.now().minusDays(7),
-                                                HandlingEvent.Type.UNLOAD,
-                                                SampleLocations.HELSINKI,
-                                                SampleVoyages.DALLAS_TO_HELSINKI),
-                                        new HandlingEvent(
-                                                cargo,
-                                                LocalDateTime.now().minusDays(7),
-                                                LocalDateTime.now().minusDays(6),
-                                                HandlingEvent.Type.LOAD,
-                                                SampleLocations.HELSINKI,
-                                                SampleVoyages.HELSINKI_TO_HONGKONG),
-                                        new HandlingEvent(
-                                                cargo,
-                                                LocalDateTime.now().minusDays(6),
-                                                LocalDateTime.now().minusDays(5),
-                                                HandlingEvent.Type.UNLOAD,
-                                                SampleLocations.HONGKONG,
-                                                SampleVoyages.HELSINKI_TO_HONGKONG)
-                                )
-                        )
-                );
+                        new HandlingEvent(
+                                cargo,
+                                LocalDateTime.now().minusDays(6),
+                                LocalDateTime.now().minusDays(5),
+                                HandlingEvent.Type.UNLOAD,
+                                SampleLocations.HONGKONG,
+                                SampleVoyages.HELSINKI_TO_HONGKONG));
         doNothing().when(applicationEvents).cargoWasMisdirected(any(Cargo.class));
         doNothing().when(applicationEvents).cargoHasArrived(any(Cargo.class));
         doNothing().when(cargoRepository).store(any(Cargo.class));
@@ -200,24 +166,16 @@ public class CargoInspectionServiceTest {
                 )
         );
         when(cargoRepository.find(any(TrackingId.class))).thenReturn(cargo);
-        when(handlingEventRepository.lookupHandlingHistoryOfCargo(any(TrackingId.class)))
+        // loaded on the wrong voyage.
+        when(handlingEventRepository.findMostRecentlyCompleted(any(TrackingId.class)))
                 .thenReturn(
-                        new HandlingHistory(
-                                List.of(
-                                        new HandlingEvent(
-                                                cargo,
-                                                LocalDateTime.now().minusDays(10),
-                                                LocalDateTime.now().minusDays(9),
-                                                HandlingEvent.Type.RECEIVE,
-                                                SampleLocations.DALLAS),
-                                        // load on wrong voyage.
-                                        new HandlingEvent(
-                                                cargo,
-                                                LocalDateTime.now().minusDays(9),
-                                                LocalDateTime.now().minusDays(7),
-                                                HandlingEvent.Type.LOAD,
-                                                SampleLocations.DALLAS,
-                                                SampleVoyages.DALLAS_TO_HELSINKI_ALT))));
+                        new HandlingEvent(
+                                cargo,
+                                LocalDateTime.now().minusDays(9),
+                                LocalDateTime.now().minusDays(7),
+                                HandlingEvent.Type.LOAD,
+                                SampleLocations.DALLAS,
+                                SampleVoyages.DALLAS_TO_HELSINKI_ALT));
         doNothing().when(applicationEvents).cargoWasMisdirected(any(Cargo.class));
         doNothing().when(applicationEvents).cargoHasArrived(any(Cargo.class));
         doNothing().when(cargoRepository).store(any(Cargo.class));
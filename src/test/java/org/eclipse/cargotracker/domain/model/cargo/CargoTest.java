@@ -101,6 +101,38 @@ public class CargoTest {
         assertThat(cargo.getDelivery().routingStatus()).isEqualTo(RoutingStatus.MISROUTED);
     }
 
+    @Test
+    public void testItineraryChangesAreTracked() {
+        Cargo cargo = new Cargo(
+                new TrackingId("XYZ"),
+                RouteSpecification.of(
+                        SampleLocations.STOCKHOLM,
+                        SampleLocations.HAMBURG,
+                        LocalDate.now().plusDays(10)
+                )
+        );
+        assertThat(cargo.isItineraryChanged()).isFalse();
+
+        cargo.assignToRoute(
+                Itinerary.of(
+                        List.of(
+                                new Leg(
+                                        voyage,
+                                        SampleLocations.STOCKHOLM,
+                                        SampleLocations.HAMBURG,
+                                        LocalDateTime.now().plusDays(1),
+                                        LocalDateTime.now().plusDays(2)))));
+        assertThat(cargo.isItineraryChanged()).isTrue();
+        // Nothing to remove, the cargo had no itinerary.
+        assertThat(cargo.getReplacedLegs()).isEmpty();
+
+        cargo.itineraryStored();
+        assertThat(cargo.isItineraryChanged()).isFalse();
+
+        cargo.assignToRoute(cargo.getItinerary());
+        assertThat(cargo.isItineraryChanged()).isFalse();
+    }
+
     @Test
     public void testLastKnownLocationUnknownWhenNoEvents() {
         Cargo cargo = new Cargo(
@@ -0,0 +1,120 @@
+package org.eclipse.cargotracker.domain.model.voyage;
+
+import org.eclipse.cargotracker.domain.model.location.Location;
+import org.eclipse.pathfinder.internal.ConnectionScan;
+import org.eclipse.pathfinder.internal.Timetable;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SampleNetworkTest {
+
+    private static final LocalDateTime FIRST_DEPARTURE = LocalDateTime.of(2025, 1, 6, 0, 0);
+
+    @Test
+    public void testSameSeedGivesSameNetwork() {
+        SampleNetwork network = build(42);
+
+        assertThat(describe(build(42))).isEqualTo(describe(network));
+        assertThat(describe(build(43))).isNotEqualTo(describe(network));
+    }
+
+    @Test
+    public void testEveryPortIsServedWeekly() {
+        SampleNetwork network = build(SampleNetwork.DEFAULT_SEED);
+
+        assertThat(network.getLocations()).hasSize(500);
+        assertThat(network.getLocations())
+                .extracting(location -> location.getUnLocode().unlocode())
+                .doesNotHaveDuplicates()
+                .allMatch(unlocode -> unlocode.startsWith("X"));
+
+        Set<Location> served = new HashSet<>();
+        for (Voyage voyage : network.getVoyages()) {
+            for (CarrierMovement movement : voyage.getSchedule().carrierMovements()) {
+                served.add(movement.getDepartureLocation());
+                assertThat(movement.getArrivalTime()).isAfter(movement.getDepartureTime());
+                assertThat(movement.getDepartureTime()).isAfterOrEqualTo(FIRST_DEPARTURE);
+            }
+        }
+        assertThat(served).containsExactlyInAnyOrderElementsOf(network.getLocations());
+        assertThat(network.getVoyages().size() % 26).isZero();
+    }
+
+    @Test
+    public void testEveryPortCanBeReached() {
+        SampleNetwork network = build(SampleNetwork.DEFAULT_SEED);
+
+        Timetable.Builder builder = new Timetable.Builder();
+        for (Voyage voyage : network.getVoyages()) {
+            for (CarrierMovement movement : voyage.getSchedule().carrierMovements()) {
+                builder.addMovement(
+                        voyage.getVoyageNumber().number(),
+                        movement.getDepartureLocation().getUnLocode().unlocode(),
+                        movement.getArrivalLocation().getUnLocode().unlocode(),
+                        movement.getDepartureTime(),
+                        movement.getArrivalTime());
+            }
+        }
+        ConnectionScan scan = new ConnectionScan(builder.build());
+
+        // From a hub and from the last, surely not a hub, port.
+        List<Location> origins =
+                List.of(network.getLocations().getFirst(), network.getLocations().getLast());
+        for (Location origin : origins) {
+            for (Location destination : network.getLocations()) {
+                if (!destination.equals(origin)) {
+                    assertThat(
+                            scan.findEarliestArrival(
+                                    origin.getUnLocode().unlocode(),
+                                    destination.getUnLocode().unlocode(),
+                                    FIRST_DEPARTURE))
+                            .isNotNull();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidSizesAreRejected() {
+        assertThatThrownBy(
+                () -> new SampleNetwork.Builder(FIRST_DEPARTURE).ports(5).hubs(10).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SampleNetwork.Builder(FIRST_DEPARTURE).hubs(0).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static SampleNetwork build(long seed) {
+        return new SampleNetwork.Builder(FIRST_DEPARTURE)
+                .seed(seed)
+                .ports(500)
+                .hubs(10)
+                .weeks(26)
+                .build();
+    }
+
+    private static List<String> describe(SampleNetwork network) {
+        return network.getVoyages().stream()
+                .flatMap(
+                        voyage ->
+                                voyage.getSchedule().carrierMovements().stream()
+                                        .map(movement -> describe(voyage, movement)))
+                .toList();
+    }
+
+    private static String describe(Voyage voyage, CarrierMovement movement) {
+        return String.join(
+                " ",
+                voyage.getVoyageNumber().number(),
+                movement.getDepartureLocation().getUnLocode().unlocode(),
+                movement.getArrivalLocation().getUnLocode().unlocode(),
+                movement.getDepartureTime().toString(),
+                movement.getArrivalTime().toString());
+    }
+}
@@ -0,0 +1,49 @@
+package org.eclipse.cargotracker.infrastructure.persistence;
+
+import jakarta.annotation.Resource;
+import jakarta.annotation.sql.DataSourceDefinition;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Replaces {@link DatabaseSetup} with a data source on a schema of its own, emptied before the
+ * {@link SchemaMigration} runs on startup, instead of the schema the other tests generate from the
+ * entities.
+ */
+@DataSourceDefinition(
+        name = "java:app/jdbc/CargoTrackerDatabase",
+        className = "org.postgresql.xa.PGXADataSource",
+        url =
+                "jdbc:postgresql://localhost:5432/cargotracker?currentSchema="
+                        + EmptySchemaSetup.SCHEMA,
+        user = "user",
+        password = "password")
+@ApplicationScoped
+public class EmptySchemaSetup {
+    private static final Logger LOGGER = Logger.getLogger(EmptySchemaSetup.class.getName());
+
+    static final String SCHEMA = "migration_test";
+
+    @Resource(lookup = "java:app/jdbc/CargoTrackerDatabase")
+    private DataSource dataSource;
+
+    // The Startup event the migration observes is fired after this one.
+    public void init(@Observes @Initialized(ApplicationScoped.class) Object event)
+            throws SQLException {
+        LOGGER.log(Level.INFO, "Emptying schema {0}", SCHEMA);
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+        }
+    }
+}
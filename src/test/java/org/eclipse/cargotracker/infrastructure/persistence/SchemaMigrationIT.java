@@ -0,0 +1,187 @@
+package org.eclipse.cargotracker.infrastructure.persistence;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.UserTransaction;
+import org.eclipse.cargotracker.TxUtil;
+import org.eclipse.cargotracker.domain.model.cargo.Cargo;
+import org.eclipse.cargotracker.domain.model.cargo.CargoRepository;
+import org.eclipse.cargotracker.domain.model.cargo.RouteSpecification;
+import org.eclipse.cargotracker.domain.model.cargo.TrackingId;
+import org.eclipse.cargotracker.domain.model.location.Location;
+import org.eclipse.cargotracker.domain.model.location.LocationRepository;
+import org.eclipse.cargotracker.domain.model.location.SampleLocations;
+import org.eclipse.cargotracker.domain.model.location.UnLocode;
+import org.eclipse.cargotracker.domain.model.voyage.SampleVoyages;
+import org.eclipse.cargotracker.domain.model.voyage.Voyage;
+import org.eclipse.cargotracker.domain.model.voyage.VoyageNumber;
+import org.eclipse.cargotracker.domain.model.voyage.VoyageRepository;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.container.annotation.ArquillianTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.cargotracker.Deployments.addApplicationBase;
+import static org.eclipse.cargotracker.Deployments.addDomainModels;
+import static org.eclipse.cargotracker.Deployments.addDomainRepositories;
+import static org.eclipse.cargotracker.Deployments.addExtraJars;
+import static org.eclipse.cargotracker.Deployments.addInfraBase;
+import static org.eclipse.cargotracker.Deployments.addJpaRepositories;
+import static org.eclipse.cargotracker.Deployments.addSchemaMigration;
+
+/**
+ * The repositories on a schema created by the migrations alone, starting from an empty one.
+ */
+@ArquillianTest
+public class SchemaMigrationIT {
+    private static final Logger LOGGER = Logger.getLogger(SchemaMigrationIT.class.getName());
+
+    @Inject
+    LocationRepository locationRepository;
+
+    @Inject
+    VoyageRepository voyageRepository;
+
+    @Inject
+    CargoRepository cargoRepository;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Inject
+    UserTransaction utx;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        WebArchive war = ShrinkWrap.create(WebArchive.class, "test-SchemaMigrationIT.war");
+
+        addExtraJars(war);
+        addDomainModels(war);
+        addDomainRepositories(war);
+        addInfraBase(war);
+        addJpaRepositories(war);
+        addSchemaMigration(war);
+        addApplicationBase(war);
+
+        war.addClass(EmptySchemaSetup.class)
+                .addClass(SampleLocations.class)
+                .addClass(SampleVoyages.class)
+                // add TxUtil
+                .addClass(TxUtil.class)
+                // add persistence unit descriptor, leaving the schema to the migrations
+                .addAsResource("test-migration-persistence.xml", "META-INF/persistence.xml")
+
+                // add web xml
+                .addAsWebInfResource("test-web.xml", "web.xml")
+
+                // add Wildfly specific deployment descriptor
+                .addAsWebInfResource(
+                        "test-jboss-deployment-structure.xml", "jboss-deployment-structure.xml");
+
+        LOGGER.log(Level.INFO, "War deployment: {0}", war.toString(true));
+
+        return war;
+    }
+
+    TxUtil tx = null;
+
+    @BeforeEach
+    public void setup() {
+        tx = new TxUtil(utx, entityManager);
+    }
+
+    @Test
+    public void testEmptySchemaIsMigratedFromTheFirstVersion() {
+        // Not baselined, all the migrations have been applied.
+        assertThat(
+                entityManager
+                        .createNativeQuery(
+                                "select version from flyway_schema_history"
+                                        + " where success order by installed_rank")
+                        .getResultList())
+                .containsExactly("1", "2", "3");
+    }
+
+    @Test
+    public void testRepositoriesUseTheMigratedSchema() {
+        tx.runInTx(() -> {
+            // The ports of the voyage, and the destination of the cargo.
+            entityManager.persist(SampleLocations.HONGKONG);
+            entityManager.persist(SampleLocations.HANGZOU);
+            entityManager.persist(SampleLocations.TOKYO);
+            entityManager.persist(SampleLocations.MELBOURNE);
+            entityManager.persist(SampleLocations.NEWYORK);
+            entityManager.persist(SampleLocations.HELSINKI);
+            entityManager.persist(SampleVoyages.HONGKONG_TO_NEW_YORK);
+        });
+
+        TrackingId trackingId = tx.callInTx(() -> {
+            TrackingId next = cargoRepository.nextTrackingId();
+            cargoRepository.store(
+                    new Cargo(
+                            next,
+                            RouteSpecification.of(
+                                    SampleLocations.HONGKONG,
+                                    SampleLocations.HELSINKI,
+                                    LocalDate.now().plusDays(15))));
+            return next;
+        });
+
+        tx.runInTx(() -> {
+            assertThat(locationRepository.find(SampleLocations.HONGKONG.getUnLocode()))
+                    .isEqualTo(SampleLocations.HONGKONG);
+            Voyage voyage =
+                    voyageRepository.find(SampleVoyages.HONGKONG_TO_NEW_YORK.getVoyageNumber());
+            assertThat(voyage.getSchedule().carrierMovements())
+                    .hasSameSizeAs(
+                            SampleVoyages.HONGKONG_TO_NEW_YORK.getSchedule().carrierMovements());
+
+            Cargo cargo = cargoRepository.find(trackingId);
+            assertThat(cargo.getOrigin()).isEqualTo(SampleLocations.HONGKONG);
+            assertThat(cargo.getRouteSpecification().destination())
+                    .isEqualTo(SampleLocations.HELSINKI);
+        });
+    }
+
+    @Test
+    public void testNaturalKeysAreUnique() {
+        Location aarhus = new Location(new UnLocode("DKAAR"), "Aarhus");
+        Location odense = new Location(new UnLocode("DKODE"), "Odense");
+        tx.runInTx(() -> {
+            entityManager.persist(aarhus);
+            entityManager.persist(odense);
+        });
+
+        assertThatThrownBy(() -> tx.runInTx(() -> {
+            entityManager.persist(new Location(aarhus.getUnLocode(), "Århus"));
+            entityManager.flush();
+        })).isInstanceOf(RuntimeException.class);
+
+        VoyageNumber voyageNumber = new VoyageNumber("MIG01");
+        tx.runInTx(() -> entityManager.persist(aarhusToOdense(voyageNumber)));
+
+        assertThatThrownBy(() -> tx.runInTx(() -> {
+            entityManager.persist(aarhusToOdense(voyageNumber));
+            entityManager.flush();
+        })).isInstanceOf(RuntimeException.class);
+    }
+
+    private Voyage aarhusToOdense(VoyageNumber voyageNumber) {
+        return new Voyage.Builder(voyageNumber, locationRepository.find(new UnLocode("DKAAR")))
+                .addMovement(
+                        locationRepository.find(new UnLocode("DKODE")),
+                        LocalDateTime.now(),
+                        LocalDateTime.now().plusDays(1))
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package org.eclipse.cargotracker.infrastructure.persistence.jpa;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnitUtil;
 import jakarta.transaction.UserTransaction;
 import org.eclipse.cargotracker.TxUtil;
 import org.eclipse.cargotracker.application.util.SampleDataGenerator;
@@ -17,6 +18,7 @@ import org.eclipse.cargotracker.domain.model.handling.HandlingEventRepository;
 import org.eclipse.cargotracker.domain.model.location.Location;
 import org.eclipse.cargotracker.domain.model.location.LocationRepository;
 import org.eclipse.cargotracker.domain.model.location.SampleLocations;
+import org.eclipse.cargotracker.domain.model.voyage.SampleNetwork;
 import org.eclipse.cargotracker.domain.model.voyage.SampleVoyages;
 import org.eclipse.cargotracker.domain.model.voyage.Voyage;
 import org.eclipse.cargotracker.domain.model.voyage.VoyageNumber;
@@ -38,6 +40,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.cargotracker.Deployments.addApplicationBase;
@@ -85,6 +88,7 @@ public class CargoRepositoryIT {
         war.addClass(SampleDataGenerator.class)
                 .addClass(SampleLocations.class)
                 .addClass(SampleVoyages.class)
+                .addClass(SampleNetwork.class)
                 // add TxUtil
                 .addClass(TxUtil.class)
                 // add persistence unit descriptor
@@ -122,6 +126,31 @@ public class CargoRepositoryIT {
         assertThat(all).hasSize(4);
     }
 
+    @Test
+    @Order(1)
+    public void testFindAllByPage() {
+        List<Cargo> first = cargoRepository.findAll(null, 3);
+        assertThat(first).hasSize(3);
+
+        List<Cargo> second = cargoRepository.findAll(first.getLast().getTrackingId(), 3);
+        assertThat(second).hasSize(1);
+
+        assertThat(Stream.concat(first.stream(), second.stream()))
+                .extracting(cargo -> cargo.getTrackingId().id())
+                .containsExactly("ABC123", "DEF789", "JKL567", "MNO456");
+    }
+
+    @Test
+    @Order(1)
+    public void testStreamAll() throws Exception {
+        tx.runInTx(() -> {
+            try (Stream<Cargo> cargos = cargoRepository.streamAll()) {
+                assertThat(cargos.map(cargo -> cargo.getTrackingId().id()))
+                        .containsExactly("ABC123", "DEF789", "JKL567", "MNO456");
+            }
+        });
+    }
+
     @Test
     @Order(2)
     public void testNextTrackingId() {
@@ -193,6 +222,39 @@ public class CargoRepositoryIT {
 
     }
 
+    @Test
+    @Order(5)
+    public void testFindLoadsItinerary() {
+        final TrackingId trackingId = new TrackingId("ABC123");
+
+        final Cargo cargo = tx.callInTx(() -> {
+            Cargo found = cargoRepository.find(trackingId);
+            // Nothing can be loaded lazily anymore.
+            entityManager.clear();
+            return found;
+        });
+
+        PersistenceUnitUtil persistenceUnitUtil =
+                entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        assertThat(persistenceUnitUtil.isLoaded(cargo.getItinerary(), "legs")).isTrue();
+
+        List<Leg> legs = cargo.getItinerary().legs();
+        assertThat(legs).hasSize(3);
+        for (Leg leg : legs) {
+            assertThat(persistenceUnitUtil.isLoaded(leg, "voyage")).isTrue();
+            assertThat(persistenceUnitUtil.isLoaded(leg, "loadLocation")).isTrue();
+            assertThat(persistenceUnitUtil.isLoaded(leg, "unloadLocation")).isTrue();
+            assertThat(persistenceUnitUtil.isLoaded(leg.getVoyage())).isTrue();
+        }
+        assertLeg(legs.get(2), "0300A", SampleLocations.DALLAS, SampleLocations.HELSINKI);
+
+        // ABC123 was last unloaded in New York.
+        assertThat(persistenceUnitUtil.isLoaded(cargo.getDelivery(), "lastEvent")).isTrue();
+        assertThat(persistenceUnitUtil.isLoaded(cargo.getDelivery().lastEvent())).isTrue();
+        assertThat(cargo.getDelivery().lastEvent().getLocation()).isEqualTo(SampleLocations.NEWYORK);
+        assertThat(persistenceUnitUtil.isLoaded(cargo.getDelivery(), "currentVoyage")).isTrue();
+    }
+
     private void assertHandlingEvent(
             Cargo cargo,
             HandlingEvent event,
@@ -223,7 +285,7 @@ public class CargoRepositoryIT {
     }
 
     @Test
-    @Order(5)
+    @Order(6)
     public void testSave() throws Exception {
         TrackingId trackingId = new TrackingId("AAA");
         VoyageNumber voyageNumber = new VoyageNumber("0300A");
@@ -266,7 +328,7 @@ public class CargoRepositoryIT {
     }
 
     @Test
-    @Order(6)
+    @Order(7)
     public void testSpecifyNewRoute() throws Exception {
         LOGGER.log(Level.INFO, "run test :: testSpecifyNewRoute");
         var trackingId = new TrackingId("AAA");
@@ -306,7 +368,7 @@ public class CargoRepositoryIT {
     }
 
     @Test
-    @Order(7)
+    @Order(8)
     public void testReplaceItinerary() throws Exception {
         var trackingId = new TrackingId("AAA");
 
@@ -342,6 +404,12 @@ public class CargoRepositoryIT {
         // verify in the new tx
         tx.runInTx(() -> {
             assertLegCount(trackingId, 2);
+
+            // The legs of the replaced itinerary are removed with it.
+            var orphans = this.entityManager
+                    .createNativeQuery("SELECT id FROM legs WHERE cargo_id IS NULL")
+                    .getResultList();
+            assertThat(orphans).isEmpty();
         });
 
     }
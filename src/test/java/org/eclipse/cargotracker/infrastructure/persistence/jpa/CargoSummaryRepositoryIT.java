@@ -0,0 +1,91 @@
+package org.eclipse.cargotracker.infrastructure.persistence.jpa;
+
+import jakarta.inject.Inject;
+import org.eclipse.cargotracker.application.util.SampleDataGenerator;
+import org.eclipse.cargotracker.domain.model.cargo.CargoSummary;
+import org.eclipse.cargotracker.domain.model.cargo.CargoSummaryRepository;
+import org.eclipse.cargotracker.domain.model.cargo.RoutingStatus;
+import org.eclipse.cargotracker.domain.model.cargo.TrackingId;
+import org.eclipse.cargotracker.domain.model.location.SampleLocations;
+import org.eclipse.cargotracker.domain.model.voyage.SampleVoyages;
+import org.eclipse.cargotracker.interfaces.RestActivator;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.container.annotation.ArquillianTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.cargotracker.Deployments.addApplicationBase;
+import static org.eclipse.cargotracker.Deployments.addDomainModels;
+import static org.eclipse.cargotracker.Deployments.addDomainRepositories;
+import static org.eclipse.cargotracker.Deployments.addExtraJars;
+import static org.eclipse.cargotracker.Deployments.addInfraBase;
+import static org.eclipse.cargotracker.Deployments.addInfraPersistence;
+
+@ArquillianTest
+public class CargoSummaryRepositoryIT {
+    private static final Logger LOGGER = Logger.getLogger(CargoSummaryRepositoryIT.class.getName());
+    @Inject
+    private CargoSummaryRepository cargoSummaryRepository;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        WebArchive war = ShrinkWrap.create(WebArchive.class, "test-CargoSummaryRepositoryIT.war");
+
+        addExtraJars(war);
+        addDomainModels(war);
+        addDomainRepositories(war);
+        addInfraBase(war);
+        addInfraPersistence(war);
+        addApplicationBase(war);
+
+        war.addClass(RestActivator.class);
+        war.addClass(SampleDataGenerator.class)
+                .addClass(SampleLocations.class)
+                .addClass(SampleVoyages.class)
+                // add persistence unit descriptor
+                .addAsResource("test-persistence.xml", "META-INF/persistence.xml")
+
+                // add web xml
+                .addAsWebInfResource("test-web.xml", "web.xml")
+
+                // add Wildfly specific deployment descriptor
+                .addAsWebInfResource(
+                        "test-jboss-deployment-structure.xml", "jboss-deployment-structure.xml");
+
+        LOGGER.log(Level.INFO, "War deployment: {0}", war.toString(true));
+
+        return war;
+    }
+
+    @Test
+    public void testFindAll() {
+        List<CargoSummary> first = cargoSummaryRepository.findAll(null, 2);
+        assertThat(first).extracting(CargoSummary::trackingId).containsExactly("ABC123", "DEF789");
+
+        CargoSummary abc123 = first.getFirst();
+        assertThat(abc123.originUnLocode()).isEqualTo("CNHKG");
+        assertThat(abc123.destinationName()).isEqualTo("Helsinki");
+        assertThat(abc123.isRouted()).isTrue();
+
+        CargoSummary def789 = first.getLast();
+        assertThat(def789.routingStatus()).isEqualTo(RoutingStatus.NOT_ROUTED);
+        assertThat(def789.lastKnownLocationUnLocode()).isNull();
+
+        List<CargoSummary> second =
+                cargoSummaryRepository.findAll(new TrackingId(def789.trackingId()), 2);
+        assertThat(second).extracting(CargoSummary::trackingId).containsExactly("JKL567", "MNO456");
+    }
+
+    @Test
+    public void testFindAllTrackingIds() {
+        assertThat(cargoSummaryRepository.findAllTrackingIds())
+                .extracting(TrackingId::id)
+                .containsExactly("ABC123", "DEF789", "JKL567", "MNO456");
+    }
+}
@@ -15,6 +15,7 @@ import org.eclipse.cargotracker.domain.model.location.Location;
 import org.eclipse.cargotracker.domain.model.location.LocationRepository;
 import org.eclipse.cargotracker.domain.model.location.SampleLocations;
 import org.eclipse.cargotracker.domain.model.location.UnLocode;
+import org.eclipse.cargotracker.domain.model.voyage.SampleNetwork;
 import org.eclipse.cargotracker.domain.model.voyage.SampleVoyages;
 import org.eclipse.cargotracker.interfaces.RestActivator;
 import org.jboss.arquillian.container.test.api.Deployment;
@@ -70,6 +71,7 @@ public class HandlingEventRepositoryIT {
         war.addClass(SampleDataGenerator.class)
                 .addClass(SampleLocations.class)
                 .addClass(SampleVoyages.class)
+                .addClass(SampleNetwork.class)
                 // add TxUtil
                 .addClass(TxUtil.class)
                 // add persistence unit descriptor
@@ -190,4 +192,19 @@ public class HandlingEventRepositoryIT {
                 .getDistinctEventsByCompletionTime();
         assertThat(existingHandlingEvents).hasSize(5);
     }
+
+    @Test
+    public void testFindMostRecentlyCompleted() {
+        TrackingId trackingId = new TrackingId("MNO456");
+        HandlingEvent expected = handlingEventRepository
+                .lookupHandlingHistoryOfCargo(trackingId)
+                .getMostRecentlyCompletedEvent();
+
+        HandlingEvent lastEvent = handlingEventRepository.findMostRecentlyCompleted(trackingId);
+        assertThat(lastEvent).isEqualTo(expected);
+        assertThat(lastEvent.getType()).isEqualTo(HandlingEvent.Type.CLAIM);
+
+        assertThat(handlingEventRepository.findMostRecentlyCompleted(new TrackingId("XYZ")))
+                .isNull();
+    }
 }
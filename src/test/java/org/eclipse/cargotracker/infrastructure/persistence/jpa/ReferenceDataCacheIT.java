@@ -0,0 +1,211 @@
+package org.eclipse.cargotracker.infrastructure.persistence.jpa;
+
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.UserTransaction;
+import org.eclipse.cargotracker.TxUtil;
+import org.eclipse.cargotracker.application.util.SampleDataGenerator;
+import org.eclipse.cargotracker.domain.model.location.Location;
+import org.eclipse.cargotracker.domain.model.location.SampleLocations;
+import org.eclipse.cargotracker.domain.model.location.UnLocode;
+import org.eclipse.cargotracker.domain.model.voyage.CarrierMovement;
+import org.eclipse.cargotracker.domain.model.voyage.SampleVoyages;
+import org.eclipse.cargotracker.domain.model.voyage.Schedule;
+import org.eclipse.cargotracker.domain.model.voyage.Voyage;
+import org.eclipse.cargotracker.domain.model.voyage.VoyageNumber;
+import org.eclipse.cargotracker.infrastructure.events.cdi.ScheduleChanged;
+import org.eclipse.cargotracker.interfaces.RestActivator;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.container.annotation.ArquillianTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.cargotracker.Deployments.addApplicationBase;
+import static org.eclipse.cargotracker.Deployments.addDomainModels;
+import static org.eclipse.cargotracker.Deployments.addDomainRepositories;
+import static org.eclipse.cargotracker.Deployments.addExtraJars;
+import static org.eclipse.cargotracker.Deployments.addInfraBase;
+import static org.eclipse.cargotracker.Deployments.addInfraPersistence;
+
+@ArquillianTest
+public class ReferenceDataCacheIT {
+    private static final Logger LOGGER = Logger.getLogger(ReferenceDataCacheIT.class.getName());
+
+    private static final UnLocode COPENHAGEN = new UnLocode("DKCPH");
+    private static final VoyageNumber VOYAGE_NUMBER = new VoyageNumber("RDC01");
+
+    @Inject
+    ReferenceDataCache referenceDataCache;
+
+    @Inject
+    @ScheduleChanged
+    Event<Voyage> scheduleChanged;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Inject
+    UserTransaction utx;
+
+    // The codes and numbers queried for, by the cache.
+    List<Object> queried = new ArrayList<>();
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        WebArchive war = ShrinkWrap.create(WebArchive.class, "test-ReferenceDataCacheIT.war");
+
+        addExtraJars(war);
+        addDomainModels(war);
+        addDomainRepositories(war);
+        addInfraBase(war);
+        addInfraPersistence(war);
+        addApplicationBase(war);
+
+        war.addClass(RestActivator.class);
+        war.addClass(SampleDataGenerator.class)
+                .addClass(SampleLocations.class)
+                .addClass(SampleVoyages.class)
+                // add TxUtil
+                .addClass(TxUtil.class)
+                // add persistence unit descriptor
+                .addAsResource("test-persistence.xml", "META-INF/persistence.xml")
+
+                // add web xml
+                .addAsWebInfResource("test-web.xml", "web.xml")
+
+                // add Wildfly specific deployment descriptor
+                .addAsWebInfResource(
+                        "test-jboss-deployment-structure.xml", "jboss-deployment-structure.xml");
+
+        LOGGER.log(Level.INFO, "War deployment: {0}", war.toString(true));
+
+        return war;
+    }
+
+    TxUtil tx = null;
+
+    @BeforeEach
+    public void setup() {
+        tx = new TxUtil(utx, entityManager);
+        tx.runInTx(() -> {
+            entityManager.persist(new Location(COPENHAGEN, "Copenhagen"));
+            entityManager.persist(
+                    new Voyage(
+                            VOYAGE_NUMBER,
+                            Schedule.of(
+                                    List.of(
+                                            new CarrierMovement(
+                                                    SampleLocations.HONGKONG,
+                                                    SampleLocations.CHICAGO,
+                                                    LocalDateTime.now(),
+                                                    LocalDateTime.now().plusDays(1))))));
+            entityManager.flush();
+        });
+    }
+
+    @AfterEach
+    public void teardown() {
+        tx.runInTx(() -> {
+            // The carrier movements are removed along with the voyage.
+            entityManager
+                    .createNamedQuery("Voyage.findByVoyageNumber", Voyage.class)
+                    .setParameter("voyageNumber", VOYAGE_NUMBER)
+                    .getResultList()
+                    .forEach(entityManager::remove);
+            entityManager
+                    .createNamedQuery("Location.findByUnLocode", Location.class)
+                    .setParameter("unLocode", COPENHAGEN)
+                    .getResultList()
+                    .forEach(entityManager::remove);
+        });
+        tx = null;
+    }
+
+    @Test
+    public void testKnownLocationIsFoundWithoutQuery() {
+        Location first =
+                tx.callInTx(() -> referenceDataCache.findLocation(COPENHAGEN, locationQuery()));
+        Location second =
+                tx.callInTx(() -> referenceDataCache.findLocation(COPENHAGEN, locationQuery()));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(second.getName()).isEqualTo("Copenhagen");
+        // Found by its identifier the second time.
+        assertThat(queried).containsExactly(COPENHAGEN);
+    }
+
+    @Test
+    public void testRemovedLocationIsQueriedAgain() {
+        Object removedId = tx.callInTx(() -> identifierOf(
+                referenceDataCache.findLocation(COPENHAGEN, locationQuery())));
+
+        // Removed and added again, e.g. when the sample data is reloaded.
+        tx.runInTx(() -> {
+            entityManager
+                    .createQuery("Delete from Location l where l.unLocode = :unLocode")
+                    .setParameter("unLocode", COPENHAGEN)
+                    .executeUpdate();
+            entityManager.persist(new Location(COPENHAGEN, "København"));
+        });
+
+        Location found =
+                tx.callInTx(() -> referenceDataCache.findLocation(COPENHAGEN, locationQuery()));
+
+        assertThat(found.getName()).isEqualTo("København");
+        assertThat(identifierOf(found)).isNotEqualTo(removedId);
+        assertThat(queried).containsExactly(COPENHAGEN, COPENHAGEN);
+    }
+
+    @Test
+    public void testVoyageIsEvictedWhenItsScheduleChanges() {
+        Object id = tx.callInTx(() -> identifierOf(
+                referenceDataCache.findVoyage(VOYAGE_NUMBER, voyageQuery())));
+        assertThat(entityManager.getEntityManagerFactory().getCache().contains(Voyage.class, id))
+                .isTrue();
+
+        // Observed once the transaction has been committed.
+        tx.runInTx(() -> scheduleChanged.fire(entityManager.find(Voyage.class, id)));
+
+        assertThat(entityManager.getEntityManagerFactory().getCache().contains(Voyage.class, id))
+                .isFalse();
+        tx.runInTx(() -> referenceDataCache.findVoyage(VOYAGE_NUMBER, voyageQuery()));
+        assertThat(queried).containsExactly(VOYAGE_NUMBER, VOYAGE_NUMBER);
+    }
+
+    private Function<UnLocode, Location> locationQuery() {
+        return unLocode -> {
+            queried.add(unLocode);
+            return entityManager
+                    .createNamedQuery("Location.findByUnLocode", Location.class)
+                    .setParameter("unLocode", unLocode)
+                    .getSingleResult();
+        };
+    }
+
+    private Function<VoyageNumber, Voyage> voyageQuery() {
+        return voyageNumber -> {
+            queried.add(voyageNumber);
+            return entityManager
+                    .createNamedQuery("Voyage.findByVoyageNumber", Voyage.class)
+                    .setParameter("voyageNumber", voyageNumber)
+                    .getSingleResult();
+        };
+    }
+
+    private Object identifierOf(Object entity) {
+        return entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity);
+    }
+}
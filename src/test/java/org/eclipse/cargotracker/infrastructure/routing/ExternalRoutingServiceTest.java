@@ -1,5 +1,6 @@
 package org.eclipse.cargotracker.infrastructure.routing;
 
+import jakarta.enterprise.concurrent.ManagedExecutorService;
 import org.eclipse.cargotracker.domain.model.cargo.Cargo;
 import org.eclipse.cargotracker.domain.model.cargo.Itinerary;
 import org.eclipse.cargotracker.domain.model.cargo.Leg;
@@ -8,11 +9,11 @@ import org.eclipse.cargotracker.domain.model.cargo.TrackingId;
 import org.eclipse.cargotracker.domain.model.location.Location;
 import org.eclipse.cargotracker.domain.model.location.LocationRepository;
 import org.eclipse.cargotracker.domain.model.location.SampleLocations;
-import org.eclipse.cargotracker.domain.model.location.UnLocode;
 import org.eclipse.cargotracker.domain.model.voyage.SampleVoyages;
 import org.eclipse.cargotracker.domain.model.voyage.VoyageNumber;
 import org.eclipse.cargotracker.domain.model.voyage.VoyageRepository;
-import org.eclipse.cargotracker.infrastructure.routing.client.GraphTraversalResourceClient;
+import org.eclipse.cargotracker.infrastructure.routing.client.GraphTraversalClient;
+import org.eclipse.pathfinder.api.RouteQuery;
 import org.eclipse.pathfinder.api.TransitEdge;
 import org.eclipse.pathfinder.api.TransitPath;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,13 +21,24 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -36,15 +48,28 @@ public class ExternalRoutingServiceTest {
 
     private final VoyageRepository voyageRepository = mock(VoyageRepository.class);
     private final LocationRepository locationRepository = mock(LocationRepository.class);
-    private final GraphTraversalResourceClient graphTraversalResourceClient =
-            mock(GraphTraversalResourceClient.class);
+    private final GraphTraversalClient graphTraversalResourceClient =
+            mock(GraphTraversalClient.class);
+    private final ManagedExecutorService executorService = mock(ManagedExecutorService.class);
     private ExternalRoutingService externalRoutingService;
 
     @BeforeEach
     public void setUp() {
         this.externalRoutingService =
                 new ExternalRoutingService(
-                        locationRepository, voyageRepository, graphTraversalResourceClient);
+                        locationRepository,
+                        voyageRepository,
+                        graphTraversalResourceClient,
+                        new RouteCache(),
+                        executorService);
+        // Runs the asynchronous translations in the calling thread.
+        doAnswer(
+                invocation -> {
+                    invocation.getArgument(0, Runnable.class).run();
+                    return null;
+                })
+                .when(executorService)
+                .execute(any(Runnable.class));
     }
 
     @Test
@@ -55,14 +80,11 @@ public class ExternalRoutingServiceTest {
                         SampleLocations.HONGKONG, SampleLocations.HELSINKI, LocalDate.now());
         Cargo cargo = new Cargo(trackingId, routeSpecification);
 
-        when(voyageRepository.find(any(VoyageNumber.class))).thenReturn(SampleVoyages.CM002);
-        when(locationRepository.find(SampleLocations.HONGKONG.getUnLocode()))
-                .thenReturn(SampleLocations.HONGKONG);
-        when(locationRepository.find(SampleLocations.CHICAGO.getUnLocode()))
-                .thenReturn(SampleLocations.CHICAGO);
-        when(locationRepository.find(SampleLocations.HELSINKI.getUnLocode()))
-                .thenReturn(SampleLocations.HELSINKI);
-        when(graphTraversalResourceClient.findShortestPath(anyString(), anyString()))
+        when(voyageRepository.findByVoyageNumbers(anyCollection()))
+                .thenReturn(List.of(SampleVoyages.CM002));
+        when(locationRepository.findByUnLocodes(anyCollection()))
+                .thenReturn(List.of(SampleLocations.HONGKONG, SampleLocations.CHICAGO, SampleLocations.HELSINKI));
+        when(graphTraversalResourceClient.findShortestPath(anyString(), anyString(), anyString()))
                 .thenReturn(
                         List.of(
                                 new TransitPath(
@@ -110,11 +132,422 @@ public class ExternalRoutingServiceTest {
             }
         }
 
-        verify(graphTraversalResourceClient, times(1)).findShortestPath(anyString(), anyString());
-        verify(voyageRepository, atLeastOnce()).find(any(VoyageNumber.class));
-        verify(locationRepository, atLeastOnce()).find(any(UnLocode.class));
+        verify(graphTraversalResourceClient, times(1)).findShortestPath(anyString(), anyString(), anyString());
+        // One query per type, whatever the number of legs.
+        verify(voyageRepository, times(1)).findByVoyageNumbers(Set.of(new VoyageNumber("CM002")));
+        verify(locationRepository, times(1))
+                .findByUnLocodes(
+                        Set.of(
+                                SampleLocations.HONGKONG.getUnLocode(),
+                                SampleLocations.CHICAGO.getUnLocode(),
+                                SampleLocations.HELSINKI.getUnLocode()));
 
         verifyNoMoreInteractions(
                 voyageRepository, locationRepository, graphTraversalResourceClient);
     }
+
+    @Test
+    public void testCalculatePossibleRoutesInBatch() {
+        LocalDate deadline = LocalDate.now().plusDays(40);
+        RouteSpecification toChicago =
+                RouteSpecification.of(SampleLocations.HONGKONG, SampleLocations.CHICAGO, deadline);
+        RouteSpecification toHelsinki =
+                RouteSpecification.of(SampleLocations.HONGKONG, SampleLocations.HELSINKI, deadline);
+
+        when(voyageRepository.findByVoyageNumbers(anyCollection()))
+                .thenReturn(List.of(SampleVoyages.CM002));
+        when(locationRepository.findByUnLocodes(anyCollection()))
+                .thenReturn(List.of(SampleLocations.HONGKONG, SampleLocations.CHICAGO));
+        when(graphTraversalResourceClient.findShortestPaths(anyList()))
+                .thenReturn(
+                        List.of(
+                                List.of(
+                                        new TransitPath(
+                                                List.of(
+                                                        new TransitEdge(
+                                                                "CM002",
+                                                                "CNHKG",
+                                                                "USCHI",
+                                                                LocalDateTime.now().plusDays(1),
+                                                                LocalDateTime.now().plusDays(10))))),
+                                List.of()));
+
+        List<List<Itinerary>> candidates =
+                externalRoutingService.fetchRoutesForSpecifications(
+                        List.of(toChicago, toHelsinki));
+
+        assertThat(candidates).hasSize(2);
+        assertThat(candidates.get(0)).hasSize(1);
+        assertThat(candidates.get(0).get(0).legs().getLast().getUnloadLocation())
+                .isEqualTo(SampleLocations.CHICAGO);
+        assertThat(candidates.get(1)).isEmpty();
+
+        String deadlineBucket = RouteCache.Key.of(toChicago).deadlineBucket().toString();
+        verify(graphTraversalResourceClient, times(1))
+                .findShortestPaths(
+                        List.of(
+                                new RouteQuery("CNHKG", "USCHI", deadlineBucket),
+                                new RouteQuery("CNHKG", "FIHEL", deadlineBucket)));
+
+        // Both lanes are cached now.
+        externalRoutingService.fetchRoutesForSpecification(toChicago);
+        externalRoutingService.fetchRoutesForSpecifications(List.of(toHelsinki));
+        verifyNoMoreInteractions(graphTraversalResourceClient);
+    }
+
+    @Test
+    public void testRoutesAreCachedPerLaneAndDeadlineBucket() {
+        RouteSpecification routeSpecification =
+                RouteSpecification.of(
+                        SampleLocations.HONGKONG,
+                        SampleLocations.CHICAGO,
+                        LocalDate.now().plusDays(40));
+        RouteCache.Key key = RouteCache.Key.of(routeSpecification);
+
+        when(voyageRepository.findByVoyageNumbers(anyCollection()))
+                .thenReturn(List.of(SampleVoyages.CM002));
+        when(locationRepository.findByUnLocodes(anyCollection()))
+                .thenReturn(List.of(SampleLocations.HONGKONG, SampleLocations.CHICAGO));
+        when(graphTraversalResourceClient.findShortestPath(
+                "CNHKG", "USCHI", key.deadlineBucket().toString()))
+                .thenReturn(
+                        List.of(
+                                new TransitPath(
+                                        List.of(
+                                                new TransitEdge(
+                                                        "CM002",
+                                                        "CNHKG",
+                                                        "USCHI",
+                                                        LocalDateTime.now().plusDays(1),
+                                                        LocalDateTime.now().plusDays(10))))));
+
+        List<Itinerary> first = externalRoutingService.fetchRoutesForSpecification(routeSpecification);
+        List<Itinerary> second =
+                externalRoutingService.fetchRoutesForSpecification(routeSpecification);
+
+        assertThat(first).hasSize(1);
+        assertThat(second).hasSize(1);
+        // Itineraries become part of a cargo once assigned, they are never shared.
+        assertThat(second.getFirst()).isNotSameAs(first.getFirst());
+        verify(graphTraversalResourceClient, times(1))
+                .findShortestPath(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void testCalculatePossibleRoutesAsynchronously() {
+        RouteSpecification routeSpecification =
+                RouteSpecification.of(
+                        SampleLocations.HONGKONG,
+                        SampleLocations.CHICAGO,
+                        LocalDate.now().plusDays(40));
+        CompletableFuture<List<TransitPath>> transitPaths = new CompletableFuture<>();
+
+        when(voyageRepository.findByVoyageNumbers(anyCollection()))
+                .thenReturn(List.of(SampleVoyages.CM002));
+        when(locationRepository.findByUnLocodes(anyCollection()))
+                .thenReturn(List.of(SampleLocations.HONGKONG, SampleLocations.CHICAGO));
+        when(graphTraversalResourceClient.findShortestPathAsync(anyString(), anyString(), anyString()))
+                .thenReturn(transitPaths);
+
+        CompletionStage<List<Itinerary>> candidates =
+                externalRoutingService.fetchRoutesForSpecificationAsync(routeSpecification);
+
+        // Nothing is translated before the path-finder answers.
+        assertThat(candidates.toCompletableFuture()).isNotDone();
+        verifyNoMoreInteractions(voyageRepository, locationRepository);
+
+        transitPaths.complete(
+                List.of(
+                        new TransitPath(
+                                List.of(
+                                        new TransitEdge(
+                                                "CM002",
+                                                "CNHKG",
+                                                "USCHI",
+                                                LocalDateTime.now().plusDays(1),
+                                                LocalDateTime.now().plusDays(10))))));
+
+        assertThat(candidates.toCompletableFuture().join()).hasSize(1);
+        verify(executorService).execute(any(Runnable.class));
+
+        // The paths are cached like the blocking ones.
+        assertThat(
+                externalRoutingService
+                        .fetchRoutesForSpecificationAsync(routeSpecification)
+                        .toCompletableFuture()
+                        .join())
+                .hasSize(1);
+        verify(graphTraversalResourceClient, times(1))
+                .findShortestPathAsync(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void testStreamedRoutesAreHandedOverAsFound() {
+        RouteSpecification routeSpecification =
+                RouteSpecification.of(
+                        SampleLocations.HONGKONG,
+                        SampleLocations.CHICAGO,
+                        LocalDate.now().plusDays(40));
+        List<Itinerary> streamed = new ArrayList<>();
+
+        when(voyageRepository.findByVoyageNumbers(anyCollection()))
+                .thenReturn(List.of(SampleVoyages.CM002));
+        when(locationRepository.findByUnLocodes(anyCollection()))
+                .thenReturn(List.of(SampleLocations.HONGKONG, SampleLocations.CHICAGO));
+        doAnswer(
+                invocation -> {
+                    Consumer<TransitPath> consumer = invocation.getArgument(3);
+                    consumer.accept(hongkongToChicago(1));
+                    // The first route is translated before the second path is found.
+                    assertThat(streamed).hasSize(1);
+                    consumer.accept(hongkongToChicago(2));
+                    return null;
+                })
+                .when(graphTraversalResourceClient)
+                .findShortestPath(anyString(), anyString(), anyString(), any());
+
+        externalRoutingService
+                .fetchRoutesForSpecificationAsync(routeSpecification, streamed::add)
+                .toCompletableFuture()
+                .join();
+
+        assertThat(streamed).hasSize(2);
+
+        // Once all are found, the paths are cached like the others.
+        assertThat(externalRoutingService.fetchRoutesForSpecification(routeSpecification))
+                .hasSize(2);
+        verify(graphTraversalResourceClient, never())
+                .findShortestPath(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void testStreamedRoutesLookUpOnlyNewReferenceData() {
+        RouteSpecification routeSpecification =
+                RouteSpecification.of(
+                        SampleLocations.HONGKONG,
+                        SampleLocations.CHICAGO,
+                        LocalDate.now().plusDays(40));
+        List<Itinerary> streamed = new ArrayList<>();
+
+        when(voyageRepository.findByVoyageNumbers(Set.of(new VoyageNumber("CM002"))))
+                .thenReturn(List.of(SampleVoyages.CM002));
+        when(voyageRepository.findByVoyageNumbers(Set.of(new VoyageNumber("CM003"))))
+                .thenReturn(List.of(SampleVoyages.CM003));
+        when(locationRepository.findByUnLocodes(
+                Set.of(
+                        SampleLocations.HONGKONG.getUnLocode(),
+                        SampleLocations.CHICAGO.getUnLocode())))
+                .thenReturn(List.of(SampleLocations.HONGKONG, SampleLocations.CHICAGO));
+        when(locationRepository.findByUnLocodes(Set.of(SampleLocations.TOKYO.getUnLocode())))
+                .thenReturn(List.of(SampleLocations.TOKYO));
+        doAnswer(
+                invocation -> {
+                    Consumer<TransitPath> consumer = invocation.getArgument(3);
+                    consumer.accept(hongkongToChicago(1));
+                    consumer.accept(hongkongToChicago(2));
+                    consumer.accept(
+                            new TransitPath(
+                                    List.of(
+                                            new TransitEdge(
+                                                    "CM003",
+                                                    "CNHKG",
+                                                    "JNTKO",
+                                                    LocalDateTime.now().plusDays(3),
+                                                    LocalDateTime.now().plusDays(5)),
+                                            new TransitEdge(
+                                                    "CM003",
+                                                    "JNTKO",
+                                                    "USCHI",
+                                                    LocalDateTime.now().plusDays(6),
+                                                    LocalDateTime.now().plusDays(15)))));
+                    return null;
+                })
+                .when(graphTraversalResourceClient)
+                .findShortestPath(anyString(), anyString(), anyString(), any());
+
+        externalRoutingService
+                .fetchRoutesForSpecificationAsync(routeSpecification, streamed::add)
+                .toCompletableFuture()
+                .join();
+
+        assertThat(streamed).hasSize(3);
+        assertThat(streamed.getLast().legs().getFirst().getUnloadLocation())
+                .isEqualTo(SampleLocations.TOKYO);
+
+        // The second path needs nothing new, the third one only its voyage and Tokyo.
+        verify(voyageRepository, times(1)).findByVoyageNumbers(Set.of(new VoyageNumber("CM002")));
+        verify(voyageRepository, times(1)).findByVoyageNumbers(Set.of(new VoyageNumber("CM003")));
+        verify(locationRepository, times(1))
+                .findByUnLocodes(
+                        Set.of(
+                                SampleLocations.HONGKONG.getUnLocode(),
+                                SampleLocations.CHICAGO.getUnLocode()));
+        verify(locationRepository, times(1))
+                .findByUnLocodes(Set.of(SampleLocations.TOKYO.getUnLocode()));
+        verifyNoMoreInteractions(voyageRepository, locationRepository);
+    }
+
+    @Test
+    public void testPrefetchedRoutesAreServedFromTheCache() {
+        RouteSpecification routeSpecification =
+                RouteSpecification.of(
+                        SampleLocations.HONGKONG,
+                        SampleLocations.CHICAGO,
+                        LocalDate.now().plusDays(40));
+        CompletableFuture<List<TransitPath>> transitPaths = new CompletableFuture<>();
+
+        when(voyageRepository.findByVoyageNumbers(anyCollection()))
+                .thenReturn(List.of(SampleVoyages.CM002));
+        when(locationRepository.findByUnLocodes(anyCollection()))
+                .thenReturn(List.of(SampleLocations.HONGKONG, SampleLocations.CHICAGO));
+        when(graphTraversalResourceClient.findShortestPathAsync(anyString(), anyString(), anyString()))
+                .thenReturn(transitPaths);
+
+        externalRoutingService.prefetchRoutesForSpecification(routeSpecification);
+
+        // Prefetched paths are not translated until requested.
+        verifyNoMoreInteractions(voyageRepository, locationRepository);
+
+        transitPaths.complete(
+                List.of(
+                        new TransitPath(
+                                List.of(
+                                        new TransitEdge(
+                                                "CM002",
+                                                "CNHKG",
+                                                "USCHI",
+                                                LocalDateTime.now().plusDays(1),
+                                                LocalDateTime.now().plusDays(10))))));
+
+        assertThat(externalRoutingService.fetchRoutesForSpecification(routeSpecification))
+                .hasSize(1);
+        verify(graphTraversalResourceClient, times(1))
+                .findShortestPathAsync(anyString(), anyString(), anyString());
+        verify(graphTraversalResourceClient, never())
+                .findShortestPath(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void testStreamedRoutesAwaitThePrefetchInFlight() {
+        RouteSpecification routeSpecification =
+                RouteSpecification.of(
+                        SampleLocations.HONGKONG,
+                        SampleLocations.CHICAGO,
+                        LocalDate.now().plusDays(40));
+        CompletableFuture<List<TransitPath>> transitPaths = new CompletableFuture<>();
+        List<Itinerary> streamed = new ArrayList<>();
+
+        when(voyageRepository.findByVoyageNumbers(anyCollection()))
+                .thenReturn(List.of(SampleVoyages.CM002));
+        when(locationRepository.findByUnLocodes(anyCollection()))
+                .thenReturn(List.of(SampleLocations.HONGKONG, SampleLocations.CHICAGO));
+        when(graphTraversalResourceClient.findShortestPathAsync(anyString(), anyString(), anyString()))
+                .thenReturn(transitPaths);
+
+        externalRoutingService.prefetchRoutesForSpecification(routeSpecification);
+        CompletableFuture<Void> streaming =
+                externalRoutingService
+                        .fetchRoutesForSpecificationAsync(routeSpecification, streamed::add)
+                        .toCompletableFuture();
+
+        // Nothing is handed over before the prefetch is done.
+        assertThat(streaming).isNotDone();
+
+        transitPaths.complete(List.of(hongkongToChicago(1), hongkongToChicago(2)));
+        streaming.join();
+
+        assertThat(streamed).hasSize(2);
+        verify(graphTraversalResourceClient, times(1))
+                .findShortestPathAsync(anyString(), anyString(), anyString());
+        verify(graphTraversalResourceClient, never())
+                .findShortestPath(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    public void testStreamedRoutesAreSearchedIfThePrefetchFails() {
+        RouteSpecification routeSpecification =
+                RouteSpecification.of(
+                        SampleLocations.HONGKONG,
+                        SampleLocations.CHICAGO,
+                        LocalDate.now().plusDays(40));
+        CompletableFuture<List<TransitPath>> transitPaths = new CompletableFuture<>();
+        List<Itinerary> streamed = new ArrayList<>();
+
+        when(voyageRepository.findByVoyageNumbers(anyCollection()))
+                .thenReturn(List.of(SampleVoyages.CM002));
+        when(locationRepository.findByUnLocodes(anyCollection()))
+                .thenReturn(List.of(SampleLocations.HONGKONG, SampleLocations.CHICAGO));
+        when(graphTraversalResourceClient.findShortestPathAsync(anyString(), anyString(), anyString()))
+                .thenReturn(transitPaths);
+        doAnswer(
+                invocation -> {
+                    Consumer<TransitPath> consumer = invocation.getArgument(3);
+                    consumer.accept(hongkongToChicago(1));
+                    return null;
+                })
+                .when(graphTraversalResourceClient)
+                .findShortestPath(anyString(), anyString(), anyString(), any());
+
+        externalRoutingService.prefetchRoutesForSpecification(routeSpecification);
+        CompletableFuture<Void> streaming =
+                externalRoutingService
+                        .fetchRoutesForSpecificationAsync(routeSpecification, streamed::add)
+                        .toCompletableFuture();
+        transitPaths.completeExceptionally(new RejectedExecutionException("Too many requests"));
+        streaming.join();
+
+        assertThat(streamed).hasSize(1);
+        verify(graphTraversalResourceClient, times(1))
+                .findShortestPath(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    public void testFailedPrefetchIsIgnored() {
+        RouteSpecification routeSpecification =
+                RouteSpecification.of(
+                        SampleLocations.HONGKONG,
+                        SampleLocations.CHICAGO,
+                        LocalDate.now().plusDays(40));
+
+        when(graphTraversalResourceClient.findShortestPathAsync(anyString(), anyString(), anyString()))
+                .thenReturn(
+                        CompletableFuture.failedFuture(
+                                new RejectedExecutionException("Too many requests")));
+
+        externalRoutingService.prefetchRoutesForSpecification(routeSpecification);
+
+        // Nothing was cached, the routes are searched again when requested.
+        when(graphTraversalResourceClient.findShortestPath(anyString(), anyString(), anyString()))
+                .thenReturn(List.of());
+        assertThat(externalRoutingService.fetchRoutesForSpecification(routeSpecification))
+                .isEmpty();
+        verify(graphTraversalResourceClient, times(1))
+                .findShortestPath(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void testEarliestArrivalsAreKeyedByLocation() {
+        LocalDateTime arrival = LocalDateTime.now().plusDays(10);
+        when(graphTraversalResourceClient.findEarliestArrivals("CNHKG"))
+                .thenReturn(Map.of("USCHI", arrival));
+
+        assertThat(externalRoutingService.fetchEarliestArrivals(SampleLocations.HONGKONG.getUnLocode()))
+                .containsOnly(entry(SampleLocations.CHICAGO.getUnLocode(), arrival));
+
+        // Not computed yet by the path-finder.
+        when(graphTraversalResourceClient.findEarliestArrivals("USCHI")).thenReturn(null);
+        assertThat(externalRoutingService.fetchEarliestArrivals(SampleLocations.CHICAGO.getUnLocode()))
+                .isNull();
+    }
+
+    private static TransitPath hongkongToChicago(int departureDays) {
+        return new TransitPath(
+                List.of(
+                        new TransitEdge(
+                                "CM002",
+                                "CNHKG",
+                                "USCHI",
+                                LocalDateTime.now().plusDays(departureDays),
+                                LocalDateTime.now().plusDays(departureDays + 10))));
+    }
 }
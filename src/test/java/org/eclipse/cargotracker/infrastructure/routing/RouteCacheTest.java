@@ -0,0 +1,120 @@
+package org.eclipse.cargotracker.infrastructure.routing;
+
+import org.eclipse.cargotracker.domain.model.cargo.RouteSpecification;
+import org.eclipse.cargotracker.domain.model.location.SampleLocations;
+import org.eclipse.pathfinder.api.TransitPath;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RouteCacheTest {
+
+    private static final List<TransitPath> PATHS = List.of(TransitPath.empty());
+
+    private final MutableClock clock = new MutableClock();
+    private final RouteCache cache = new RouteCache(2, Duration.ofMinutes(10), clock);
+
+    private final RouteCache.Key hongkongToChicago =
+            new RouteCache.Key("CNHKG", "USCHI", LocalDate.of(2025, 1, 8));
+    private final RouteCache.Key hongkongToHelsinki =
+            new RouteCache.Key("CNHKG", "FIHEL", LocalDate.of(2025, 1, 8));
+    private final RouteCache.Key hongkongToDallas =
+            new RouteCache.Key("CNHKG", "USDAL", LocalDate.of(2025, 1, 8));
+
+    @Test
+    public void testHitsAndMisses() {
+        assertThat(cache.get(hongkongToChicago)).isNull();
+        cache.put(hongkongToChicago, PATHS, cache.generation());
+
+        assertThat(cache.get(hongkongToChicago)).isEqualTo(PATHS);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        cache.put(hongkongToChicago, PATHS, cache.generation());
+        cache.put(hongkongToHelsinki, PATHS, cache.generation());
+        cache.get(hongkongToChicago);
+        cache.put(hongkongToDallas, PATHS, cache.generation());
+
+        assertThat(cache.getSize()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.get(hongkongToHelsinki)).isNull();
+        assertThat(cache.get(hongkongToChicago)).isEqualTo(PATHS);
+    }
+
+    @Test
+    public void testExpiredEntryIsEvicted() {
+        cache.put(hongkongToChicago, PATHS, cache.generation());
+        clock.advance(Duration.ofMinutes(11));
+
+        assertThat(cache.get(hongkongToChicago)).isNull();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.getSize()).isZero();
+    }
+
+    @Test
+    public void testPathsFetchedBeforeInvalidationAreNotCached() {
+        cache.put(hongkongToChicago, PATHS, cache.generation());
+        long generation = cache.generation();
+
+        cache.onScheduleChanged(null);
+        cache.put(hongkongToHelsinki, PATHS, generation);
+
+        assertThat(cache.getSize()).isZero();
+    }
+
+    @Test
+    public void testDeadlinesAreBucketedByWeek() {
+        LocalDate deadline = LocalDate.of(2025, 1, 3);
+        RouteCache.Key key =
+                RouteCache.Key.of(
+                        RouteSpecification.of(
+                                SampleLocations.HONGKONG, SampleLocations.CHICAGO, deadline));
+
+        assertThat(key.originUnLocode()).isEqualTo("CNHKG");
+        assertThat(key.destinationUnLocode()).isEqualTo("USCHI");
+        assertThat(key.deadlineBucket()).isAfterOrEqualTo(deadline);
+        assertThat(key.deadlineBucket()).isBefore(deadline.plusDays(RouteCache.DEADLINE_BUCKET_DAYS));
+        assertThat(
+                RouteCache.Key.of(
+                        RouteSpecification.of(
+                                SampleLocations.HONGKONG,
+                                SampleLocations.CHICAGO,
+                                key.deadlineBucket().minusDays(1))))
+                .isEqualTo(key);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.eclipse.cargotracker.infrastructure.routing.client;
+
+import org.eclipse.pathfinder.api.RouteQuery;
+import org.eclipse.pathfinder.api.TransitPath;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GraphTraversalResourceClientTest {
+
+    // Stands in for the path-finder, answering when the test completes the calls.
+    private final List<CompletableFuture<List<TransitPath>>> calls = new ArrayList<>();
+    private final List<List<RouteQuery>> batches = new ArrayList<>();
+
+    private final GraphTraversalResourceClient client =
+            new GraphTraversalResourceClient() {
+                @Override
+                CompletionStage<List<TransitPath>> fetchShortestPathAsync(RouteQuery query) {
+                    CompletableFuture<List<TransitPath>> call = new CompletableFuture<>();
+                    calls.add(call);
+                    return call;
+                }
+
+                @Override
+                List<List<TransitPath>> postShortestPaths(List<RouteQuery> batch) {
+                    batches.add(batch);
+                    return batch.stream().map(query -> List.<TransitPath>of()).toList();
+                }
+            };
+
+    @Test
+    public void testIdenticalConcurrentRequestsShareOneCall() {
+        List<CompletableFuture<List<TransitPath>>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(findHongkongToChicago());
+        }
+        assertThat(calls).hasSize(1);
+        assertThat(results).noneMatch(CompletableFuture::isDone);
+
+        calls.getFirst().complete(List.of(TransitPath.empty()));
+
+        for (CompletableFuture<List<TransitPath>> result : results) {
+            assertThat(result.join()).isSameAs(results.getFirst().join());
+        }
+
+        // Once done, the next request is sent again.
+        findHongkongToChicago();
+        assertThat(calls).hasSize(2);
+    }
+
+    @Test
+    public void testFollowersFailLikeTheLeader() {
+        RuntimeException failure = new IllegalStateException("Path-finder unavailable");
+        CompletableFuture<List<TransitPath>> leader = findHongkongToChicago();
+        CompletableFuture<List<TransitPath>> follower = findHongkongToChicago();
+
+        calls.getFirst().completeExceptionally(failure);
+
+        assertThatThrownBy(leader::join).hasCause(failure);
+        assertThatThrownBy(follower::join).hasCause(failure);
+        assertThat(calls).hasSize(1);
+    }
+
+    @Test
+    public void testCallersCanNotChangeTheResultOfOthers() {
+        List<TransitPath> paths = List.of(TransitPath.empty());
+        CompletableFuture<List<TransitPath>> leader = findHongkongToChicago();
+        CompletableFuture<List<TransitPath>> follower = findHongkongToChicago();
+        CompletableFuture<List<TransitPath>> impatientFollower = findHongkongToChicago();
+
+        leader.cancel(true);
+        impatientFollower.complete(List.of());
+        assertThat(follower).isNotDone();
+
+        calls.getFirst().complete(paths);
+
+        assertThat(follower.join()).isEqualTo(paths);
+        assertThat(leader).isCancelled();
+        assertThat(impatientFollower.join()).isEmpty();
+        assertThat(calls).hasSize(1);
+    }
+
+    @Test
+    public void testBulkheadRejectsCallsBeyondTheLimit() {
+        for (int i = 0; i < GraphTraversalResourceClient.DEFAULT_MAX_CONCURRENT_CALLS; i++) {
+            client.findShortestPathAsync("CNHKG", "USCHI", "2025-01-" + (10 + i));
+        }
+
+        // Fails fast, without calling the path-finder.
+        assertThatThrownBy(() -> client.findShortestPath("CNHKG", "SESTO", "2025-01-08"))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(calls).hasSize(GraphTraversalResourceClient.DEFAULT_MAX_CONCURRENT_CALLS);
+
+        // Joining a call in flight takes no permit.
+        assertThat(client.findShortestPathAsync("CNHKG", "USCHI", "2025-01-10").toCompletableFuture())
+                .isNotDone();
+
+        calls.getFirst().complete(List.of());
+        assertThat(findHongkongToChicago()).isNotDone();
+        assertThat(calls).hasSize(GraphTraversalResourceClient.DEFAULT_MAX_CONCURRENT_CALLS + 1);
+    }
+
+    @Test
+    public void testBulkheadRejectsBatchesBeyondTheLimit() {
+        List<RouteQuery> queries = List.of(new RouteQuery("CNHKG", "USCHI", "2025-01-08"));
+        assertThat(client.findShortestPaths(queries)).hasSize(1);
+        assertThat(batches).hasSize(1);
+
+        for (int i = 0; i < GraphTraversalResourceClient.DEFAULT_MAX_CONCURRENT_CALLS; i++) {
+            client.findShortestPathAsync("CNHKG", "USCHI", "2025-01-" + (10 + i));
+        }
+
+        // Fails fast, without posting the batch.
+        assertThatThrownBy(() -> client.findShortestPaths(queries))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(batches).hasSize(1);
+
+        // The permit of the batch was released, the next call gets one.
+        calls.getFirst().complete(List.of());
+        assertThat(client.findShortestPaths(queries)).hasSize(1);
+        assertThat(batches).hasSize(2);
+    }
+
+    private CompletableFuture<List<TransitPath>> findHongkongToChicago() {
+        return client.findShortestPathAsync("CNHKG", "USCHI", "2025-01-08").toCompletableFuture();
+    }
+}
@@ -0,0 +1,67 @@
+package org.eclipse.cargotracker.interfaces.booking.facade.internal.assembler;
+
+import org.eclipse.cargotracker.domain.model.cargo.CargoSummary;
+import org.eclipse.cargotracker.domain.model.cargo.RoutingStatus;
+import org.eclipse.cargotracker.domain.model.cargo.TransportStatus;
+import org.eclipse.cargotracker.interfaces.booking.facade.dto.CargoSummaryDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CargoSummaryDtoAssemblerTest {
+
+    @Test
+    public void testToDto() {
+        CargoSummary summary =
+                new CargoSummary(
+                        "XYZ",
+                        "SESTO",
+                        "Stockholm",
+                        "AUMEL",
+                        "Melbourne",
+                        LocalDate.of(2025, 3, 1),
+                        RoutingStatus.MISROUTED,
+                        TransportStatus.IN_PORT,
+                        false,
+                        false,
+                        "DEHAM",
+                        "Hamburg");
+
+        CargoSummaryDto dto = new CargoSummaryDtoAssembler().toDto(summary);
+
+        assertThat(dto.trackingId()).isEqualTo("XYZ");
+        assertThat(dto.origin().nameAndCode()).isEqualTo("Stockholm (SESTO)");
+        assertThat(dto.finalDestination().code()).isEqualTo("AUMEL");
+        assertThat(dto.arrivalDeadline()).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(dto.routed()).isTrue();
+        assertThat(dto.misrouted()).isTrue();
+        assertThat(dto.claimed()).isFalse();
+        assertThat(dto.lastKnownLocation().code()).isEqualTo("DEHAM");
+        assertThat(dto.transportStatus()).isEqualTo("IN_PORT");
+    }
+
+    @Test
+    public void testToDtoOfCargoNotHandledYet() {
+        CargoSummary summary =
+                new CargoSummary(
+                        "XYZ",
+                        "SESTO",
+                        "Stockholm",
+                        "AUMEL",
+                        "Melbourne",
+                        LocalDate.of(2025, 3, 1),
+                        RoutingStatus.NOT_ROUTED,
+                        TransportStatus.NOT_RECEIVED,
+                        false,
+                        false,
+                        null,
+                        null);
+
+        CargoSummaryDto dto = new CargoSummaryDtoAssembler().toDto(summary);
+
+        assertThat(dto.routed()).isFalse();
+        assertThat(dto.lastKnownLocation().code()).isEqualTo("XXXXX");
+    }
+}
@@ -0,0 +1,120 @@
+package org.eclipse.pathfinder.internal;
+
+import org.eclipse.pathfinder.api.SearchBudget;
+import org.eclipse.pathfinder.api.SearchResult;
+import org.eclipse.pathfinder.api.TransitEdge;
+import org.eclipse.pathfinder.api.TransitPath;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConnectionScanTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    // Hongkong - Tokyo - New York by ship, New York - Chicago by train, and a slow direct
+    // Hongkong - Chicago voyage.
+    private final Timetable timetable =
+            new Timetable.Builder()
+                    .addMovement("V100", "CNHKG", "JNTKO", T0.plusDays(1), T0.plusDays(3))
+                    .addMovement("V100", "JNTKO", "USNYC", T0.plusDays(4), T0.plusDays(10))
+                    .addMovement("V200", "USNYC", "USCHI", T0.plusDays(11), T0.plusDays(12))
+                    .addMovement("V300", "CNHKG", "USCHI", T0.plusDays(2), T0.plusDays(20))
+                    .build();
+
+    private final ConnectionScan search = new ConnectionScan(timetable);
+
+    @Test
+    public void testEarliestArrivalWithTransfer() {
+        TransitPath path = search.findEarliestArrival("CNHKG", "USCHI", T0);
+
+        assertThat(path).isNotNull();
+        assertThat(path.transitEdges())
+                .containsExactly(
+                        new TransitEdge("V100", "CNHKG", "USNYC", T0.plusDays(1), T0.plusDays(10)),
+                        new TransitEdge("V200", "USNYC", "USCHI", T0.plusDays(11), T0.plusDays(12)));
+    }
+
+    @Test
+    public void testMissedConnectionFallsBackToLaterVoyage() {
+        TransitPath path = search.findEarliestArrival("CNHKG", "USCHI", T0.plusDays(1).plusHours(1));
+
+        assertThat(path).isNotNull();
+        assertThat(path.transitEdges())
+                .containsExactly(
+                        new TransitEdge("V300", "CNHKG", "USCHI", T0.plusDays(2), T0.plusDays(20)));
+    }
+
+    @Test
+    public void testDepartureTimeIsNotRoundedDown() {
+        TransitPath path = search.findEarliestArrival("CNHKG", "USCHI", T0.plusDays(1).plusSeconds(1));
+
+        assertThat(path).isNotNull();
+        assertThat(path.transitEdges().getFirst().voyageNumber()).isEqualTo("V300");
+        assertThat(Timetable.ceilingEpochMinute(LocalDateTime.MAX)).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testUnreachableDestination() {
+        assertThat(search.findEarliestArrival("USCHI", "CNHKG", T0)).isNull();
+        assertThat(search.findEarliestArrival("CNHKG", "USCHI", T0.plusDays(3))).isNull();
+    }
+
+    @Test
+    public void testDeadlinePrunesLateArrivals() {
+        TransitPath path = search.findEarliestArrival("CNHKG", "USCHI", T0, T0.plusDays(13));
+
+        assertThat(path).isNotNull();
+        assertThat(path.transitEdges()).hasSize(2);
+        assertThat(path.transitEdges().getLast().toDate()).isEqualTo(T0.plusDays(12));
+
+        // The arrival must be strictly before the deadline.
+        assertThat(search.findEarliestArrival("CNHKG", "USCHI", T0, T0.plusDays(12))).isNull();
+        assertThat(
+                search.findEarliestArrival(
+                        "CNHKG", "USCHI", T0.plusDays(1).plusHours(1), T0.plusDays(19)))
+                .isNull();
+    }
+
+    @Test
+    public void testExhaustedBudgetReturnsBestPathSoFar() {
+        // Only the first two connections are scanned, the direct voyage among them.
+        SearchResult result =
+                search.findEarliestArrival(
+                        "CNHKG",
+                        "USCHI",
+                        T0,
+                        LocalDateTime.MAX,
+                        new SearchBudget(2, Duration.ofMinutes(1)));
+
+        assertThat(result.complete()).isFalse();
+        assertThat(result.paths())
+                .singleElement()
+                .extracting(path -> path.transitEdges().getFirst().voyageNumber())
+                .isEqualTo("V300");
+        assertThat(
+                search.findEarliestArrival(
+                                "CNHKG", "USCHI", T0, LocalDateTime.MAX, SearchBudget.DEFAULT)
+                        .complete())
+                .isTrue();
+    }
+
+    @Test
+    public void testUnknownLocation() {
+        assertThat(search.findEarliestArrival("SESTO", "USCHI", T0)).isNull();
+    }
+
+    @Test
+    public void testStopsAreInterned() {
+        assertThat(timetable.stops()).containsExactlyInAnyOrder("CNHKG", "JNTKO", "USNYC", "USCHI");
+        assertThat(timetable.tripCount()).isEqualTo(3);
+        assertThat(timetable.connectionCount()).isEqualTo(4);
+        assertThat(timetable.firstConnectionDepartingFrom(T0.plusDays(2))).isEqualTo(1);
+        assertThat(List.of(timetable.connection(0).departureTime(), timetable.connection(1).departureTime()))
+                .containsExactly(T0.plusDays(1), T0.plusDays(2));
+    }
+}
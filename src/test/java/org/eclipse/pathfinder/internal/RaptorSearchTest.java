@@ -0,0 +1,128 @@
+package org.eclipse.pathfinder.internal;
+
+import org.eclipse.pathfinder.api.SearchBudget;
+import org.eclipse.pathfinder.api.SearchResult;
+import org.eclipse.pathfinder.api.TransitEdge;
+import org.eclipse.pathfinder.api.TransitPath;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RaptorSearchTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    // Hongkong - Tokyo - New York by ship, then New York - Chicago either by a train waiting one day
+    // or by a later one waiting five days, and a slow direct Hongkong - Chicago voyage.
+    private final Timetable timetable =
+            new Timetable.Builder()
+                    .addMovement("V100", "CNHKG", "JNTKO", T0.plusDays(1), T0.plusDays(3))
+                    .addMovement("V100", "JNTKO", "USNYC", T0.plusDays(4), T0.plusDays(10))
+                    .addMovement("V200", "USNYC", "USCHI", T0.plusDays(11), T0.plusDays(12))
+                    .addMovement("V201", "USNYC", "USCHI", T0.plusDays(15), T0.plusDays(16))
+                    .addMovement("V300", "CNHKG", "USCHI", T0.plusDays(2), T0.plusDays(20))
+                    .build();
+
+    private final RaptorSearch search = new RaptorSearch(timetable);
+
+    @Test
+    public void testParetoOptimalPaths() {
+        List<TransitPath> paths = search.findParetoOptimal("CNHKG", "USCHI", T0, LocalDateTime.MAX);
+
+        // The later train is beaten on every criterion, the direct voyage has fewer transfers.
+        assertThat(paths)
+                .extracting(TransitPath::transitEdges)
+                .containsExactly(
+                        List.of(
+                                new TransitEdge(
+                                        "V100", "CNHKG", "USNYC", T0.plusDays(1), T0.plusDays(10)),
+                                new TransitEdge(
+                                        "V200", "USNYC", "USCHI", T0.plusDays(11), T0.plusDays(12))),
+                        List.of(
+                                new TransitEdge(
+                                        "V300", "CNHKG", "USCHI", T0.plusDays(2), T0.plusDays(20))));
+    }
+
+    @Test
+    public void testStreamedPathsComeByNumberOfVoyages() {
+        List<TransitPath> streamed = new ArrayList<>();
+        boolean complete =
+                search.findParetoOptimal(
+                        "CNHKG",
+                        "USCHI",
+                        T0,
+                        LocalDateTime.MAX,
+                        SearchBudget.UNLIMITED,
+                        streamed::add);
+
+        // The direct voyage is final after the first round, before the transfer is even found.
+        List<TransitPath> paths = search.findParetoOptimal("CNHKG", "USCHI", T0, LocalDateTime.MAX);
+        assertThat(complete).isTrue();
+        assertThat(streamed).containsExactlyElementsOf(paths.reversed());
+        assertThat(streamed.getFirst().transitEdges())
+                .extracting(TransitEdge::voyageNumber)
+                .containsExactly("V300");
+    }
+
+    @Test
+    public void testLessPortDwellIsPreferred() {
+        // A later ship reaching New York just in time for the same train.
+        Timetable withLaterShip =
+                new Timetable.Builder()
+                        .addMovement("V100", "CNHKG", "USNYC", T0.plusDays(1), T0.plusDays(10))
+                        .addMovement("V400", "CNHKG", "USNYC", T0.plusDays(5), T0.plusDays(11))
+                        .addMovement("V200", "USNYC", "USCHI", T0.plusDays(11), T0.plusDays(12))
+                        .build();
+
+        List<TransitPath> paths =
+                new RaptorSearch(withLaterShip)
+                        .findParetoOptimal("CNHKG", "USCHI", T0, LocalDateTime.MAX);
+
+        assertThat(paths).hasSize(1);
+        assertThat(paths.getFirst().transitEdges().getFirst().voyageNumber()).isEqualTo("V400");
+    }
+
+    @Test
+    public void testDeadlinePrunesLateArrivals() {
+        List<TransitPath> paths = search.findParetoOptimal("CNHKG", "USCHI", T0, T0.plusDays(20));
+
+        assertThat(paths).hasSize(1);
+        assertThat(paths.getFirst().transitEdges()).hasSize(2);
+
+        assertThat(search.findParetoOptimal("CNHKG", "USCHI", T0, T0.plusDays(12))).isEmpty();
+    }
+
+    @Test
+    public void testUnreachableDestination() {
+        assertThat(search.findParetoOptimal("USCHI", "CNHKG", T0, LocalDateTime.MAX)).isEmpty();
+        assertThat(search.findParetoOptimal("SESTO", "USCHI", T0, LocalDateTime.MAX)).isEmpty();
+    }
+
+    @Test
+    public void testExhaustedBudgetReturnsPathsFoundSoFar() {
+        // The origin and the three stops of the first round.
+        SearchResult partial =
+                search.findParetoOptimal(
+                        "CNHKG",
+                        "USCHI",
+                        T0,
+                        LocalDateTime.MAX,
+                        new SearchBudget(4, Duration.ofMinutes(1)));
+
+        assertThat(partial.complete()).isFalse();
+        assertThat(partial.paths())
+                .extracting(path -> path.transitEdges().getFirst().voyageNumber())
+                .containsExactly("V300");
+
+        SearchResult result =
+                search.findParetoOptimal(
+                        "CNHKG", "USCHI", T0, LocalDateTime.MAX, SearchBudget.DEFAULT);
+        assertThat(result.complete()).isTrue();
+        assertThat(result.paths()).hasSize(2);
+    }
+}
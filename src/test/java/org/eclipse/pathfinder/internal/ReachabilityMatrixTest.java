@@ -0,0 +1,77 @@
+package org.eclipse.pathfinder.internal;
+
+import org.eclipse.pathfinder.api.TransitPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class ReachabilityMatrixTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final Timetable timetable =
+            new Timetable.Builder()
+                    .addMovement("V100", "CNHKG", "JNTKO", T0.plusDays(1), T0.plusDays(3))
+                    .addMovement("V100", "JNTKO", "USNYC", T0.plusDays(4), T0.plusDays(10))
+                    .addMovement("V200", "USNYC", "USCHI", T0.plusDays(11), T0.plusDays(12))
+                    .addMovement("V300", "CNHKG", "USCHI", T0.plusDays(2), T0.plusDays(20))
+                    // Leaves New York before V100 arrives there.
+                    .addMovement("V400", "USNYC", "SESTO", T0.plusDays(5), T0.plusDays(9))
+                    .build();
+
+    private final SearchPool searchPool = new SearchPool();
+
+    @BeforeEach
+    public void setUp() {
+        searchPool.init();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        searchPool.destroy();
+    }
+
+    @Test
+    public void testEarliestArrivalsFromEveryOrigin() {
+        ReachabilityMatrix matrix = ReachabilityMatrix.compute(timetable, T0, searchPool);
+
+        assertThat(matrix.findEarliestArrivals("CNHKG"))
+                .containsOnly(
+                        entry("JNTKO", T0.plusDays(3)),
+                        entry("USNYC", T0.plusDays(10)),
+                        entry("USCHI", T0.plusDays(12)));
+        assertThat(matrix.findEarliestArrivals("USNYC"))
+                .containsOnly(entry("USCHI", T0.plusDays(12)), entry("SESTO", T0.plusDays(9)));
+        assertThat(matrix.findEarliestArrivals("SESTO")).isEmpty();
+        assertThat(matrix.findEarliestArrivals("NLRTM")).isEmpty();
+    }
+
+    @Test
+    public void testConnectionsMissedFromOriginAreNotCounted() {
+        ReachabilityMatrix matrix = ReachabilityMatrix.compute(timetable, T0, searchPool);
+
+        assertThat(matrix.findEarliestArrival("CNHKG", "SESTO")).isNull();
+        assertThat(matrix.findEarliestArrival("CNHKG", "CNHKG")).isNull();
+        assertThat(matrix.findEarliestArrival("USCHI", "CNHKG")).isNull();
+    }
+
+    @Test
+    public void testMatchesTheEarliestArrivalSearch() {
+        LocalDateTime departureTime = T0.plusDays(1).plusHours(1);
+        ReachabilityMatrix matrix = ReachabilityMatrix.compute(timetable, departureTime, searchPool);
+        ConnectionScan scan = new ConnectionScan(timetable);
+
+        for (String origin : timetable.stops()) {
+            for (String destination : timetable.stops()) {
+                TransitPath path = scan.findEarliestArrival(origin, destination, departureTime);
+                assertThat(matrix.findEarliestArrival(origin, destination))
+                        .isEqualTo(path == null ? null : path.transitEdges().getLast().toDate());
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.eclipse.pathfinder.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimetableSnapshotTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final Timetable timetable =
+            new Timetable.Builder()
+                    .addMovement("V100", "CNHKG", "JNTKO", T0.plusDays(1), T0.plusDays(3))
+                    .addMovement("V100", "JNTKO", "USNYC", T0.plusDays(4), T0.plusDays(10))
+                    .addMovement("V200", "USNYC", "USCHI", T0.plusDays(11), T0.plusDays(12))
+                    .addMovement("V300", "CNHKG", "USCHI", T0.plusDays(2), T0.plusDays(20))
+                    .build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testSnapshotIsMappedBack() throws IOException {
+        Path file = directory.resolve("timetable.bin");
+        TimetableSnapshot.write(timetable, 42, file);
+
+        Timetable mapped = TimetableSnapshot.read(file, 42);
+
+        assertThat(mapped).isNotNull();
+        assertThat(mapped.stops()).isEqualTo(timetable.stops());
+        assertThat(mapped.tripCount()).isEqualTo(timetable.tripCount());
+        assertThat(mapped.connectionCount()).isEqualTo(timetable.connectionCount());
+        for (int i = 0; i < timetable.connectionCount(); i++) {
+            assertThat(mapped.connection(i)).isEqualTo(timetable.connection(i));
+            assertThat(mapped.trip(mapped.connection(i).trip()))
+                    .isEqualTo(timetable.trip(timetable.connection(i).trip()));
+        }
+        assertThat(new ConnectionScan(mapped).findEarliestArrival("CNHKG", "USCHI", T0))
+                .isEqualTo(new ConnectionScan(timetable).findEarliestArrival("CNHKG", "USCHI", T0));
+        assertThat(new RaptorSearch(mapped).findParetoOptimal("CNHKG", "USCHI", T0, T0.plusDays(30)))
+                .hasSize(2);
+    }
+
+    @Test
+    public void testOutdatedSnapshotIsIgnored() throws IOException {
+        Path file = directory.resolve("timetable.bin");
+        TimetableSnapshot.write(timetable, 42, file);
+
+        assertThat(TimetableSnapshot.read(file, 43)).isNull();
+    }
+
+    @Test
+    public void testMissingOrCorruptSnapshotIsIgnored() throws IOException {
+        Path file = directory.resolve("timetable.bin");
+        assertThat(TimetableSnapshot.read(file, 42)).isNull();
+
+        TimetableSnapshot.write(timetable, 42, file);
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 8));
+
+        assertThat(TimetableSnapshot.read(file, 42)).isNull();
+    }
+}
@@ -0,0 +1,89 @@
+package org.eclipse.pathfinder.internal;
+
+import org.eclipse.pathfinder.api.TransitEdge;
+import org.eclipse.pathfinder.api.TransitPath;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimetableTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final Timetable timetable =
+            new Timetable.Builder()
+                    .addMovement("V100", "CNHKG", "JNTKO", T0.plusDays(1), T0.plusDays(3))
+                    .addMovement("V100", "JNTKO", "USNYC", T0.plusDays(4), T0.plusDays(10))
+                    .addMovement("V200", "USNYC", "USCHI", T0.plusDays(11), T0.plusDays(12))
+                    .addMovement("V300", "CNHKG", "USCHI", T0.plusDays(2), T0.plusDays(20))
+                    .build();
+
+    @Test
+    public void testRetimedVoyageMatchesRebuiltTimetable() {
+        Timetable patched =
+                timetable.withTrip(
+                        "V100",
+                        List.of(
+                                new TransitEdge(
+                                        "V100", "JNTKO", "USNYC", T0.plusDays(5), T0.plusDays(11)),
+                                new TransitEdge(
+                                        "V100", "CNHKG", "JNTKO", T0.plusDays(2), T0.plusDays(4))));
+
+        Timetable rebuilt =
+                new Timetable.Builder()
+                        .addMovement("V100", "CNHKG", "JNTKO", T0.plusDays(2), T0.plusDays(4))
+                        .addMovement("V100", "JNTKO", "USNYC", T0.plusDays(5), T0.plusDays(11))
+                        .addMovement("V200", "USNYC", "USCHI", T0.plusDays(11), T0.plusDays(12))
+                        .addMovement("V300", "CNHKG", "USCHI", T0.plusDays(2), T0.plusDays(20))
+                        .build();
+
+        assertThat(connections(patched)).containsExactlyElementsOf(connections(rebuilt));
+        assertThat(patched.tripLength(0)).isEqualTo(2);
+        assertThat(patched.connection(patched.tripConnection(0, 1)).departureTime())
+                .isEqualTo(T0.plusDays(5));
+        // The original is left as is, for the searches still reading it.
+        assertThat(timetable.connection(0).departureTime()).isEqualTo(T0.plusDays(1));
+    }
+
+    @Test
+    public void testCancelledVoyageIsNoLongerRouted() {
+        Timetable patched = timetable.withTrip("V300", List.of());
+
+        assertThat(patched.connectionCount()).isEqualTo(3);
+        assertThat(patched.tripLength(2)).isZero();
+        assertThat(new ConnectionScan(patched).findEarliestArrival("CNHKG", "USCHI", T0.plusDays(1).plusHours(1)))
+                .isNull();
+        assertThat(new ConnectionScan(timetable).findEarliestArrival("CNHKG", "USCHI", T0.plusDays(1).plusHours(1)))
+                .isNotNull();
+    }
+
+    @Test
+    public void testAddedVoyageServesNewStops() {
+        Timetable patched =
+                timetable.withTrip(
+                        "V400",
+                        List.of(
+                                new TransitEdge(
+                                        "V400", "USCHI", "SESTO", T0.plusDays(13), T0.plusDays(15))));
+
+        assertThat(patched.indexOfStop("SESTO")).isEqualTo(4);
+        assertThat(patched.tripCount()).isEqualTo(4);
+        assertThat(patched.departureCount(patched.indexOfStop("USCHI"))).isEqualTo(1);
+
+        TransitPath path = new ConnectionScan(patched).findEarliestArrival("CNHKG", "SESTO", T0);
+        assertThat(path).isNotNull();
+        assertThat(path.transitEdges())
+                .extracting(TransitEdge::voyageNumber)
+                .containsExactly("V100", "V200", "V400");
+    }
+
+    private static List<Connection> connections(Timetable timetable) {
+        return IntStream.range(0, timetable.connectionCount())
+                .mapToObj(timetable::connection)
+                .toList();
+    }
+}